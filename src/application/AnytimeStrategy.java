@@ -0,0 +1,276 @@
+package application;
+
+import java.util.SplittableRandom;
+
+/**
+ * A strategy with a time budget per decision. It searches for the best
+ * move it can find within the budget and falls back on the card its
+ * fallback (one of the priority-chain players) would play when the search
+ * finds nothing; the fallback is only asked then, so its heuristics never
+ * eat into the budget.
+ *
+ * The search is an iterative deepening search over the seat's own hand:
+ * depth 1 tries every legal move and scores the position it leaves, depth
+ * 2 every pair of moves played one after the other, and so on up to the
+ * whole hand. Only the seat's own cards are searched, since the other
+ * hands are hidden; the other seats' turns in between are ignored. Moves
+ * are tried on the live engine with apply and undo, which publish nothing.
+ *
+ * The best move of the last completed depth is kept; when the deadline
+ * passes, or the deciding thread is interrupted, the depth in progress is
+ * dropped and that move is played. If not even depth 1 completes, the
+ * fallback's choice is played, so a decision takes its budget plus at most
+ * one quick heuristic. A budget of 1 ms suits bulk simulation, a few hundred for games
+ * people watch.
+ *
+ * Scores of searched subtrees are cached by the Zobrist hash of their
+ * position (marbles, hands and seat to move) and the depth searched. The
+ * cache outlives a decision, so what {@link #ponder pondering} searched on
+ * a predicted position is found again by the real decision: all of it if
+ * the prediction held, the subtrees both positions share if it did not.
+ */
+public final class AnytimeStrategy implements Strategy {
+    // Scores of a position, from the deciding seat's team's point of view
+    private static final int WIN = 1_000_000;
+    private static final int ON_BOARD = 100;
+    private static final int IN_SAFE_ZONE = 200;
+    private static final int LANE_STEP = 10;
+
+    // Nodes searched between two looks at the clock
+    private static final int CHECK_INTERVAL = 256;
+
+    // Cached subtree scores, direct-mapped on hash and depth
+    private static final int CACHE_SIZE = 1 << 16;
+
+    private final Strategy fallback;
+    private long budgetNanos;
+
+    // One buffer per ply, reused from one decision to the next
+    private MoveBuffer[] buffers = new MoveBuffer[0];
+
+    private long deadline;
+    private int nodes;
+    private boolean stopped;
+
+    // Subtree cache: position hash, depth searched below it and best score;
+    // a depth of 0 marks an empty entry
+    private final long[] cacheKeys = new long[CACHE_SIZE];
+    private final byte[] cacheDepths = new byte[CACHE_SIZE];
+    private final int[] cacheScores = new int[CACHE_SIZE];
+
+    // Move decided with the card chooseCard returned, played by chooseMove
+    private Move planned;
+    private Card plannedCard;
+
+    /**
+     * @param fallback the instant answer, and the seat whose marbles are searched
+     * @param budgetNanos time each decision may take, 0 to always play the fallback
+     */
+    public AnytimeStrategy(Strategy fallback, long budgetNanos) {
+        this.fallback = fallback;
+        this.budgetNanos = budgetNanos;
+    }
+
+    public Strategy getFallback() {
+        return fallback;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public void setBudgetNanos(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    @Override
+    public void seed(SplittableRandom random) {
+        fallback.seed(random);
+    }
+
+    @Override
+    public Card chooseCard(GameEngine engine) {
+        long deadline = System.nanoTime() + budgetNanos;
+        planned = null;
+        plannedCard = null;
+
+        Move move = budgetNanos > 0 ? decide(engine, deadline) : null;
+        if (move == null) {
+            return fallback.chooseCard(engine);
+        }
+        planned = move;
+        plannedCard = engine.getCurrentPlayer().getHand().get(move.getCard());
+        fallback.forgetPlan();
+        return plannedCard;
+    }
+
+    @Override
+    public void forgetPlan() {
+        planned = null;
+        plannedCard = null;
+        fallback.forgetPlan();
+    }
+
+    @Override
+    public Move chooseMove(GameEngine engine, Card card) {
+        Move move = planned;
+        boolean ours = move != null && card == plannedCard;
+        planned = null;
+        plannedCard = null;
+        return ours ? move : fallback.chooseMove(engine, card);
+    }
+
+    /**
+     * Search the predicted position until the deadline or an interrupt, to
+     * fill the cache for the real decision
+     */
+    @Override
+    public void ponder(GameEngine engine, long deadline) {
+        if (budgetNanos > 0) {
+            decide(engine, deadline);
+        }
+    }
+
+    /**
+     * Search the current seat's moves until the deadline (a
+     * {@link System#nanoTime()} value) and return the best one found by the
+     * last completed depth. The engine is back where it was on return.
+     *
+     * @return the move, or null if there is none or depth 1 did not complete
+     */
+    public Move decide(GameEngine engine, long deadline) {
+        int seat = engine.getCurrentPlayerIndex();
+        MoveBuffer root = buffer(0);
+        int count = engine.generateMoves(seat, root);
+        if (count == 0) {
+            return null;
+        }
+        if (count == 1) {
+            return root.get(0);
+        }
+
+        this.deadline = deadline;
+        this.nodes = 0;
+        this.stopped = false;
+
+        int best = -1;
+        int maxDepth = engine.getPlayerByIndex(seat).getHand().size();
+        for (int depth = 1; depth <= maxDepth && !stopped; depth++) {
+            int depthBest = -1;
+            int depthScore = Integer.MIN_VALUE;
+            for (int k = 0; k < count && !stopped; k++) {
+                // The previous depth's best move goes first
+                int i = best < 0 ? k : k == 0 ? best : k <= best ? k - 1 : k;
+                engine.apply(root, i);
+                int score = search(engine, seat, depth - 1, 1);
+                engine.undo();
+                if (!stopped && score > depthScore) {
+                    depthScore = score;
+                    depthBest = i;
+                }
+            }
+            if (!stopped) {
+                best = depthBest;
+            }
+        }
+        return best < 0 ? null : root.get(best);
+    }
+
+    /**
+     * Best score the seat can reach by playing {@code depth} more of its
+     * own cards
+     */
+    private int search(GameEngine engine, int seat, int depth, int ply) {
+        if (++nodes % CHECK_INTERVAL == 0
+                && (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted())) {
+            stopped = true;
+        }
+        if (stopped || depth == 0 || engine.isGameOver()) {
+            return evaluate(engine, seat);
+        }
+
+        long key = engine.getHash();
+        int entry = cacheIndex(key, depth);
+        if (cacheKeys[entry] == key && cacheDepths[entry] == depth) {
+            return cacheScores[entry];
+        }
+
+        MoveBuffer buffer = buffer(ply);
+        int count = engine.generateMoves(seat, buffer);
+        if (count == 0) {
+            // Whatever is left in the hand can only be discarded
+            return evaluate(engine, seat);
+        }
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < count && !stopped; i++) {
+            engine.apply(buffer, i);
+            best = Math.max(best, search(engine, seat, depth - 1, ply + 1));
+            engine.undo();
+        }
+
+        // A subtree cut short by the deadline has no exact score
+        if (!stopped) {
+            cacheKeys[entry] = key;
+            cacheDepths[entry] = (byte) depth;
+            cacheScores[entry] = best;
+        }
+        return best;
+    }
+
+    private static int cacheIndex(long key, int depth) {
+        long mixed = key ^ key >>> 32 ^ depth * 0x9E3779B9L;
+        return (int) mixed & (CACHE_SIZE - 1);
+    }
+
+    private MoveBuffer buffer(int ply) {
+        if (ply >= buffers.length) {
+            MoveBuffer[] grown = new MoveBuffer[ply + 1];
+            System.arraycopy(buffers, 0, grown, 0, buffers.length);
+            buffers = grown;
+        }
+        if (buffers[ply] == null) {
+            buffers[ply] = new MoveBuffer();
+        }
+        return buffers[ply];
+    }
+
+    /**
+     * Progress of the seat's team minus that of the other team
+     */
+    private int evaluate(GameEngine engine, int seat) {
+        BoardTopology topology = engine.getTopology();
+        int team = topology.getTeam(seat);
+        if (engine.isGameOver()) {
+            return engine.getWinningTeam() == team ? WIN : -WIN;
+        }
+        int score = 0;
+        for (int s = 0; s < engine.getSeatCount(); s++) {
+            int progress = progress(engine, topology, s);
+            score += topology.getTeam(s) == team ? progress : -progress;
+        }
+        return score;
+    }
+
+    /**
+     * How far a seat's marbles have come: out of home, along the track and
+     * into the safe zone
+     */
+    private int progress(GameEngine engine, BoardTopology topology, int seat) {
+        Player player = engine.getPlayerByIndex(seat);
+        int track = topology.getTrackLength();
+        int progress = 0;
+        for (int m = 0; m < GameState.MARBLES_PER_SEAT; m++) {
+            if (engine.isMarbleInHome(seat, m)) {
+                continue;
+            }
+            int position = engine.getMarblePosition(seat, m);
+            if (topology.isSafeZone(seat, position)) {
+                progress += ON_BOARD + track + IN_SAFE_ZONE
+                    + (position - topology.getSafeZoneStart(seat)) * LANE_STEP;
+            } else {
+                progress += ON_BOARD + track - engine.getDistanceToSafeZone(player, position);
+            }
+        }
+        return progress;
+    }
+}
\ No newline at end of file
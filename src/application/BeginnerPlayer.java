@@ -12,60 +12,25 @@ public class BeginnerPlayer extends Player implements Teachable {
     }
 
     @Override
-    public void takeTurn(Board board) {
-        System.out.println("\n" + name + ".takeTurn() with hand: " + cards);
-        
+    public Card chooseCard(GameEngine engine) {
         // Simple strategy: play the first card in hand
-        if (!cards.isEmpty()) {
-            Card cardToPlay = cards.get(0);
-            System.out.println(name + " is playing card: " + cardToPlay);
-            board.playCard(this, cardToPlay);
-        }
+        Card cardToPlay = hand.get(0);
+        return cardToPlay;
     }
 
     @Override
-    public void makeMove(Board board, Card card) {
-        System.out.println("\n" + name + ".makeMove() with card: " + card);
-        boolean moved = false;
+    public Move chooseMove(GameEngine engine, Card card) {
         int steps = getStepsForCard(card);
-        int basePos = getBasePosition();
-        
-        System.out.println(name + " has " + steps + " steps to move");
-        
-        // Get a complete inventory of all marbles and their positions
-        System.out.println(name + " marble inventory:");
-        int marblesOnBoard = 0;
-        int marblesInHome = 0;
-        int marblesOnBase = 0;
-        
-        for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
-                marblesInHome++;
-                System.out.println("- Marble " + marbles.indexOf(m) + " is in HOME");
-            } else {
-                int pos = board.getMarblePosition(m);
-                marblesOnBoard++;
-                
-                if (pos == basePos) {
-                    marblesOnBase++;
-                    System.out.println("- Marble " + marbles.indexOf(m) + " is on BASE (position " + pos + ")");
-                } else {
-                    System.out.println("- Marble " + marbles.indexOf(m) + " is on BOARD at position " + pos);
-                }
-            }
-        }
-        
-        System.out.println(name + " has " + marblesOnBoard + " marble(s) on board, " + 
-                          marblesOnBase + " on base, and " + marblesInHome + " in home");
+        int basePos = engine.getPlayerBase(this);
         
         // Special handling for backward movement
         if (steps < 0) {
             ArrayList<Marble> movableMarblesNotInSafeZone = new ArrayList<Marble>();
             
             for (Marble m : marbles) {
-                if (!board.isMarbleInHome(m)) {
-                    int pos = board.getMarblePosition(m);
-                    if (!board.isInSafeZone(this, pos)) {
+                if (!engine.isMarbleInHome(m)) {
+                    int pos = engine.getMarblePosition(m);
+                    if (!engine.isInSafeZone(this, pos)) {
                         movableMarblesNotInSafeZone.add(m);
                     }
                 }
@@ -74,125 +39,84 @@ public class BeginnerPlayer extends Player implements Teachable {
             // If we have marbles that can move backward, use the first one
             if (!movableMarblesNotInSafeZone.isEmpty()) {
                 Marble marbleToMove = movableMarblesNotInSafeZone.get(0);
-                int currPos = board.getMarblePosition(marbleToMove);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                int currPos = engine.getMarblePosition(marbleToMove);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 if (targetPos != currPos) {
-                    System.out.println(name + " MOVING marble backward from position " + currPos + " to " + targetPos);
-                    board.moveMarbleToPosition(marbleToMove, targetPos, 1.0, 0.0);
-                    moved = true;
-                    return; // Successfully moved a marble
+                    return engine.createMove(marbleToMove, card, targetPos); // Successfully moved a marble
                 }
             }
         }
         
         // PRIORITY 1: If we have a marble on the base position, always move it first
-        Marble baseMarble = findMarbleOnBase(board);
+        Marble baseMarble = findMarbleOnBase(engine);
         if (baseMarble != null) {
-            int currPos = board.getMarblePosition(baseMarble);
-            System.out.println("Found marble on base at position " + currPos);
-            
-            // Double-check currPos matches basePos
-            if (currPos != basePos) {
-                System.out.println("WARNING: Base position mismatch! currPos=" + currPos + ", basePos=" + basePos);
-            }
-            
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
-            System.out.println("Target position for base marble: " + targetPos);
+            int currPos = engine.getMarblePosition(baseMarble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             
             // Only move if it changes position
             if (targetPos != currPos) {
-                System.out.println(name + " MOVING marble from base position " + currPos + " to " + targetPos);
-                board.moveMarbleToPosition(baseMarble, targetPos, 1.0, 0.0);
-                moved = true;
-                return; // Successfully moved a base marble
-            } else {
-                System.out.println("Cannot move base marble - target position equals current position");
+                return engine.createMove(baseMarble, card, targetPos); // Successfully moved a base marble
             }
-        } else if (marblesOnBase > 0) {
-            System.out.println("WARNING: Detected " + marblesOnBase + " marbles on base but findMarbleOnBase returned null!");
         }
         
         // PRIORITY 2: Try ALL marbles on board that can move (not just the furthest)
-        System.out.println("Checking ALL marbles on board for possible moves:");
         ArrayList<Marble> movableMarblesInfo = new ArrayList<Marble>();
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m) && (baseMarble == null || m != baseMarble)) {
-                int currPos = board.getMarblePosition(m);
+            if (!engine.isMarbleInHome(m) && (baseMarble == null || m != baseMarble)) {
+                int currPos = engine.getMarblePosition(m);
                 
                 // Skip marbles in safe zone if trying to move backward
-                if (steps < 0 && board.isInSafeZone(this, currPos)) {
-                    System.out.println("- Marble at position " + currPos + " is in safe zone, cannot move backward");
+                if (steps < 0 && engine.isInSafeZone(this, currPos)) {
                     continue;
                 }
                 
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
-                String moveInfo = "Marble at position " + currPos + " -> target " + targetPos;
                 if (targetPos != currPos) {
-                    moveInfo += " (CAN MOVE)";
                     movableMarblesInfo.add(m);
-                } else {
-                    moveInfo += " (cannot move)";
                 }
-                System.out.println("- " + moveInfo);
             }
         }
         
         // If we have any marbles that can move, move the first one
         if (!movableMarblesInfo.isEmpty()) {
             Marble marbleToMove = movableMarblesInfo.get(0);
-            int currPos = board.getMarblePosition(marbleToMove);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            int currPos = engine.getMarblePosition(marbleToMove);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             
-            System.out.println(name + " MOVING marble from position " + currPos + " to " + targetPos);
-            board.moveMarbleToPosition(marbleToMove, targetPos, 1.0, 0.0);
-            moved = true;
-            return; // Successfully moved a marble
-        } else if (marblesOnBoard > 0) {
-            System.out.println("Found " + marblesOnBoard + " marbles on board but NONE can move with " + steps + " steps");
+            return engine.createMove(marbleToMove, card, targetPos); // Successfully moved a marble
         }
         
         // PRIORITY 3: If we have ACE/KING and marbles in home, bring one out
-        if (!moved && hasMarbleInHome(board) && 
+        if (hasMarbleInHome(engine) && 
            (card.getValue() == Card.Value.ACE || card.getValue() == Card.Value.KING)) {
             
             // Check if base position is free
-            boolean baseOccupied = (findMarbleOnBase(board) != null);
-            System.out.println("Base position " + basePos + " occupied? " + baseOccupied);
+            boolean baseOccupied = (findMarbleOnBase(engine) != null);
             
             if (!baseOccupied) {
-                Marble homeMarble = getFirstMarbleInHome(board);
+                Marble homeMarble = getFirstMarbleInHome(engine);
                 if (homeMarble != null) {
-                    System.out.println(name + " BRINGING marble out from home to base position " + basePos);
-                    board.moveMarbleToPosition(homeMarble, basePos, 1.0, 0.0);
-                    moved = true;
-                    return; // Successfully brought out a marble
-                } else {
-                    System.out.println("ERROR: hasMarbleInHome returned true but getFirstMarbleInHome returned null!");
+                    return engine.createMove(homeMarble, card, basePos); // Successfully brought out a marble
                 }
-            } else {
-                System.out.println("Cannot bring marble from home because base is occupied");
             }
         }
         
-        // If we couldn't make any move, advance the turn
-        if (!moved) {
-            System.out.println(name + " has NO VALID MOVES, discarding card");
-            board.nextTurn();
-        }
+        // If we couldn't make any move, the card is discarded
+        return null;
     }
     
     /**
      * Find a marble that is currently on this player's base position
      */
-    private Marble findMarbleOnBase(Board board) {
-        int basePos = getBasePosition();
+    private Marble findMarbleOnBase(GameEngine engine) {
+        int basePos = engine.getPlayerBase(this);
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
                 if (pos == basePos) {
                     return m;
                 }
@@ -204,9 +128,9 @@ public class BeginnerPlayer extends Player implements Teachable {
     /**
      * Check if player has marbles in home
      */
-    private boolean hasMarbleInHome(Board board) {
+    private boolean hasMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return true;
             }
         }
@@ -216,28 +140,15 @@ public class BeginnerPlayer extends Player implements Teachable {
     /**
      * Find the first marble in home
      */
-    private Marble getFirstMarbleInHome(Board board) {
+    private Marble getFirstMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return m;
             }
         }
         return null;
     }
     
-    /**
-     * Get player's base position
-     */
-    private int getBasePosition() {
-        switch (name.toLowerCase()) {
-            case "player1": return 51;
-            case "player2": return 1;
-            case "player3": return 18;
-            case "player4": return 35;
-            default: return 1;
-        }
-    }
-    
     /**
      * Get steps for card value
      */
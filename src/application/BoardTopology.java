@@ -0,0 +1,137 @@
+package application;
+
+/**
+ * Shape of a Jackaroo track: how many squares it has, where each seat's
+ * marbles enter the track and where each seat's safe zone lies.
+ *
+ * Safe zones are numbered inline with the track. A seat walks into its own
+ * safe zone; every other seat skips over it in a single step. A marble just
+ * short of its safe zone that would overshoot the entry is redirected into
+ * the safe zone instead. Movement, distance and capture tables are compiled
+ * from a topology once (see {@link MoveTables}); nothing else in the rules
+ * needs to know the actual numbers.
+ */
+public final class BoardTopology {
+    /** Squares in every safe zone */
+    public static final int LANE_LENGTH = 4;
+    /** How far before its safe zone a marble gets redirected into it */
+    public static final int APPROACH_WINDOW = 3;
+
+    /** Largest seat count a generated track supports (squares must fit in a byte) */
+    public static final int MAX_SEATS = 6;
+
+    // Squares per seat on a generated track
+    private static final int SEGMENT_LENGTH = 17;
+    // A seat's safe zone starts this many squares before its base
+    private static final int LANE_OFFSET = 5;
+
+    // The board the game ships with: 67 squares, seat order
+    // player1 (black), player2 (red), player3 (blue), player4 (green)
+    private static final BoardTopology STANDARD = new BoardTopology(67,
+        new int[] {51, 1, 18, 35},
+        new int[] {46, 63, 13, 30},
+        1);
+
+    private final int trackLength;
+    private final int[] bases;
+    private final int[] safeZoneStarts;
+    private final int decks;
+
+    private BoardTopology(int trackLength, int[] bases, int[] safeZoneStarts, int decks) {
+        this.trackLength = trackLength;
+        this.bases = bases;
+        this.safeZoneStarts = safeZoneStarts;
+        this.decks = decks;
+    }
+
+    /**
+     * The four-seat board drawn by the UI
+     */
+    public static BoardTopology standard() {
+        return STANDARD;
+    }
+
+    /**
+     * A regular track for 2, 4 or 6 seats: every seat gets a segment of the
+     * same length, with its safe zone just before its base. Seats alternate
+     * between two teams, so the count must be even.
+     * Generated tracks have no screen coordinates and are meant for headless
+     * games.
+     *
+     * @param decks number of 52-card decks shuffled together
+     */
+    public static BoardTopology ring(int seats, int decks) {
+        if (seats < 2 || seats > MAX_SEATS || seats % 2 != 0) {
+            throw new IllegalArgumentException("Seats must be an even number between 2 and " + MAX_SEATS + ": " + seats);
+        }
+        if (decks < 1) {
+            throw new IllegalArgumentException("Need at least one deck: " + decks);
+        }
+        int trackLength = seats * SEGMENT_LENGTH;
+        int[] bases = new int[seats];
+        int[] safeZoneStarts = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            bases[seat] = seat * SEGMENT_LENGTH + 1;
+            safeZoneStarts[seat] = Math.floorMod(bases[seat] - LANE_OFFSET - 1, trackLength) + 1;
+        }
+        return new BoardTopology(trackLength, bases, safeZoneStarts, decks);
+    }
+
+    /**
+     * Squares are numbered 1..trackLength
+     */
+    public int getTrackLength() {
+        return trackLength;
+    }
+
+    public int getSeatCount() {
+        return bases.length;
+    }
+
+    /**
+     * Number of 52-card decks in play
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Square where a seat's marbles leave home
+     */
+    public int getBase(int seat) {
+        return bases[seat];
+    }
+
+    public int getSafeZoneStart(int seat) {
+        return safeZoneStarts[seat];
+    }
+
+    public int getSafeZoneEnd(int seat) {
+        return safeZoneStarts[seat] + LANE_LENGTH - 1;
+    }
+
+    /**
+     * The square just before a seat's safe zone
+     */
+    public int getSafeZoneEntry(int seat) {
+        return wrap(safeZoneStarts[seat] - 1);
+    }
+
+    public boolean isSafeZone(int seat, int position) {
+        return position >= safeZoneStarts[seat] && position <= getSafeZoneEnd(seat);
+    }
+
+    /**
+     * Seats alternate between the two teams: even seats against odd seats
+     */
+    public int getTeam(int seat) {
+        return seat % 2 + 1;
+    }
+
+    /**
+     * Bring a square number back onto 1..trackLength
+     */
+    public int wrap(int position) {
+        return Math.floorMod(position - 1, trackLength) + 1;
+    }
+}
\ No newline at end of file
@@ -1,74 +1,86 @@
 package application;
 
-import javafx.scene.image.ImageView;
-
-public class Card {
+/**
+ * A playing card as an immutable flyweight. The 52 cards of a deck are
+ * created once and shared by every game; a card is identified by its id
+ * {@code suit * 13 + value}, so suit and value are derivable from the id
+ * alone. Decks with several copies hold the same instance several times.
+ * The two jokers follow the standard deck as ids 52 (black) and 53 (red);
+ * they are only shuffled in when the jokers variant is played.
+ *
+ * Cards know nothing about how they are drawn; the UI keeps one
+ * {@link CardView} per card for that.
+ */
+public final class Card {
     public enum Suit {
         CLUBS, DIAMONDS, HEARTS, SPADES
     }
     
     public enum Value {
         ACE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, 
-        EIGHT, NINE, TEN, JACK, QUEEN, KING
+        EIGHT, NINE, TEN, JACK, QUEEN, KING, JOKER
+    }
+
+    private static final Suit[] SUITS = Suit.values();
+    private static final Value[] VALUES = Value.values();
+
+    // Values of the standard deck, every value but JOKER
+    private static final int RANKS = VALUES.length - 1;
+
+    /** Cards in one standard deck; their ids run from 0 to DECK_SIZE - 1 */
+    public static final int DECK_SIZE = SUITS.length * RANKS;
+    /** All card ids, the standard deck followed by the two jokers */
+    public static final int COUNT = DECK_SIZE + 2;
+
+    private static final Card[] CARDS = new Card[COUNT];
+    static {
+        for (int id = 0; id < COUNT; id++) {
+            CARDS[id] = new Card(id);
+        }
     }
+
+    public static final Card BLACK_JOKER = CARDS[DECK_SIZE];
+    public static final Card RED_JOKER = CARDS[DECK_SIZE + 1];
     
+    private final int id;
     private final Suit suit;
     private final Value value;
-    private final ImageView cardImageView;
-    private boolean faceUp = false;
-    
-    // Standard card size constants - adjust these values to change all card sizes
-    private static final double CARD_WIDTH = 100;
-    private static final double CARD_HEIGHT = 80;
-    
-    public Card(Suit suit, Value value) {
-        this.suit = suit;
-        this.value = value;
-        
-        // Create image view with card back initially
-        cardImageView = new ImageView(CardManager.getCardBack());
-        
-        // Set standard size for all cards
-        cardImageView.setFitWidth(CARD_WIDTH);
-        cardImageView.setFitHeight(CARD_HEIGHT);
-        cardImageView.setPreserveRatio(true);
-    }
     
-    public void setFaceUp(boolean faceUp) {
-        this.faceUp = faceUp;
-        if (faceUp) {
-            // Convert Value enum to the number/name used in the filename
-            String valueStr = getValueString();
-            // Convert Suit enum to lowercase for the filename
-            String suitStr = suit.toString().toLowerCase();
-            // Get the card image from CardManager
-            String cardName = valueStr + "_of_" + suitStr;
-            cardImageView.setImage(CardManager.getCardImage(cardName));
+    private Card(int id) {
+        this.id = id;
+        if (id < DECK_SIZE) {
+            this.suit = SUITS[id / RANKS];
+            this.value = VALUES[id % RANKS];
         } else {
-            cardImageView.setImage(CardManager.getCardBack());
+            // Jokers carry the suit of their colour
+            this.suit = id == DECK_SIZE ? Suit.SPADES : Suit.HEARTS;
+            this.value = Value.JOKER;
         }
     }
-    
-    private String getValueString() {
-        switch (value) {
-            case ACE: return "ace";
-            case TWO: return "2";
-            case THREE: return "3";
-            case FOUR: return "4";
-            case FIVE: return "5";
-            case SIX: return "6";
-            case SEVEN: return "7";
-            case EIGHT: return "8";
-            case NINE: return "9";
-            case TEN: return "10";
-            case JACK: return "jack";
-            case QUEEN: return "queen";
-            case KING: return "king";
-            default: return "";
+
+    /**
+     * The shared card with an id (0–53)
+     */
+    public static Card of(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * The shared card of a suit and value; for a JOKER the suit only picks
+     * the colour
+     */
+    public static Card of(Suit suit, Value value) {
+        if (value == Value.JOKER) {
+            return suit == Suit.HEARTS || suit == Suit.DIAMONDS ? RED_JOKER : BLACK_JOKER;
         }
+        return CARDS[suit.ordinal() * RANKS + value.ordinal()];
     }
     
     // Getters
+    public int getId() {
+        return id;
+    }
+
     public Suit getSuit() {
         return suit;
     }
@@ -76,40 +88,16 @@ public class Card {
     public Value getValue() {
         return value;
     }
-    
-    public ImageView getCardImageView() {
-        return cardImageView;
-    }
-    
-    public boolean isFaceUp() {
-        return faceUp;
-    }
-    
-    // Flip the card (toggle face up/down)
-    public void flip() {
-        setFaceUp(!faceUp);
-    }
-    
-    // Method to make a card draggable
-    public void makeDraggable() {
-        final double[] dragDelta = new double[2];
-        
-        cardImageView.setOnMousePressed(event -> {
-            // Bring card to front
-            cardImageView.toFront();
-            // Store initial position
-            dragDelta[0] = cardImageView.getX() - event.getSceneX();
-            dragDelta[1] = cardImageView.getY() - event.getSceneY();
-        });
-        
-        cardImageView.setOnMouseDragged(event -> {
-            cardImageView.setX(event.getSceneX() + dragDelta[0]);
-            cardImageView.setY(event.getSceneY() + dragDelta[1]);
-        });
+
+    public boolean isJoker() {
+        return value == Value.JOKER;
     }
     
     @Override
     public String toString() {
+        if (isJoker()) {
+            return (this == RED_JOKER ? "RED" : "BLACK") + " JOKER";
+        }
         return value + " of " + suit;
     }
 }
\ No newline at end of file
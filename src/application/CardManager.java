@@ -55,6 +55,13 @@ public class CardManager {
             } catch (Exception e) {
                 System.err.println("Failed to load black joker");
             }
+            try {
+                Image jokerImage = new Image(CardManager.class.getResourceAsStream(basePath + "red_joker.png"));
+                cardImages.put("red_joker", jokerImage);
+                System.out.println("Loaded: red_joker");
+            } catch (Exception e) {
+                System.err.println("Failed to load red joker");
+            }
             
             // Use a card back if available, otherwise use another card
             try {
@@ -106,6 +113,9 @@ public class CardManager {
     
     // Helper method to get card by suit and value
     public static Image getCard(Card.Suit suit, Card.Value value) {
+        if (value == Card.Value.JOKER) {
+            return getCardImage(Card.of(suit, value) == Card.RED_JOKER ? "red_joker" : "black_joker");
+        }
         String suitStr = suit.toString().toLowerCase();
         String valueStr;
         
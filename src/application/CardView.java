@@ -0,0 +1,86 @@
+package application;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * On-screen image of a {@link Card}. Only the UI creates views: one per card
+ * id, on first use, and the same view is reused by every later game.
+ */
+public final class CardView {
+    // Standard card size constants - adjust these values to change all card sizes
+    private static final double CARD_WIDTH = 100;
+    private static final double CARD_HEIGHT = 80;
+
+    private static final CardView[] VIEWS = new CardView[Card.COUNT];
+
+    private final Card card;
+    private final ImageView cardImageView;
+    private boolean faceUp = false;
+
+    private CardView(Card card) {
+        this.card = card;
+
+        // Create image view with card back initially
+        cardImageView = new ImageView(CardManager.getCardBack());
+
+        // Set standard size for all cards
+        cardImageView.setFitWidth(CARD_WIDTH);
+        cardImageView.setFitHeight(CARD_HEIGHT);
+        cardImageView.setPreserveRatio(true);
+    }
+
+    /**
+     * The view of a card, created the first time it is asked for. Must be
+     * called on the FX application thread.
+     */
+    public static CardView of(Card card) {
+        CardView view = VIEWS[card.getId()];
+        if (view == null) {
+            view = new CardView(card);
+            VIEWS[card.getId()] = view;
+        }
+        return view;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    public ImageView getImageView() {
+        return cardImageView;
+    }
+
+    public void setFaceUp(boolean faceUp) {
+        this.faceUp = faceUp;
+        cardImageView.setImage(faceUp
+            ? CardManager.getCard(card.getSuit(), card.getValue())
+            : CardManager.getCardBack());
+    }
+
+    public boolean isFaceUp() {
+        return faceUp;
+    }
+
+    // Flip the card (toggle face up/down)
+    public void flip() {
+        setFaceUp(!faceUp);
+    }
+
+    // Method to make a card draggable
+    public void makeDraggable() {
+        final double[] dragDelta = new double[2];
+
+        cardImageView.setOnMousePressed(event -> {
+            // Bring card to front
+            cardImageView.toFront();
+            // Store initial position
+            dragDelta[0] = cardImageView.getX() - event.getSceneX();
+            dragDelta[1] = cardImageView.getY() - event.getSceneY();
+        });
+
+        cardImageView.setOnMouseDragged(event -> {
+            cardImageView.setX(event.getSceneX() + dragDelta[0]);
+            cardImageView.setY(event.getSceneY() + dragDelta[1]);
+        });
+    }
+}
\ No newline at end of file
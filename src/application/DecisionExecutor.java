@@ -0,0 +1,169 @@
+package application;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs strategy decisions off the FX application thread.
+ *
+ * Every request gets a virtual thread of its own and answers with a
+ * CompletableFuture, so a strategy that searches for hundreds of
+ * milliseconds never holds up rendering. The strategy reads the engine
+ * from its thread while the caller leaves the engine alone: the turn
+ * driver waits for the future before it steps the engine again, and
+ * submitting and completing the future order the two threads' accesses.
+ *
+ * Strategies may try moves on the engine, so only one thread works on it
+ * at a time: each one waits for the one started before it to leave the
+ * engine. Cancelling a future interrupts the thread deciding it, but the
+ * thread may still be undoing its moves; {@link #cancelAll()} cancels
+ * everything and answers with a future completed once the engine is free.
+ *
+ * While a move is animated the next seat can {@link Strategy#ponder ponder}
+ * on the position it is expected to face. Pondering works on the engine
+ * itself, with the animated move applied, so the caller must
+ * {@link #stopPondering()} and wait for the engine to be handed back
+ * before stepping it.
+ *
+ * Requests and cancellations are expected from one thread, the FX thread.
+ */
+public final class DecisionExecutor implements AutoCloseable {
+    // Cap on pondering, in case nobody stops it
+    private static final long PONDER_LIMIT_NANOS = 10_000_000_000L;
+
+    private final Thread.Builder threads = Thread.ofVirtual().name("decision-", 0);
+
+    // Decisions not completed yet
+    private final Set<CompletableFuture<?>> running = ConcurrentHashMap.newKeySet();
+
+    // Completed once the thread started last has left the engine
+    private CompletableFuture<Void> idle = CompletableFuture.completedFuture(null);
+    // Thread pondering, if any
+    private Thread ponderer;
+    private boolean closed;
+
+    /**
+     * Ask the seat to move which card it plays
+     */
+    public CompletableFuture<Card> chooseCard(GameEngine engine) {
+        Strategy strategy = engine.getCurrentStrategy();
+        return submit(() -> strategy.chooseCard(engine));
+    }
+
+    /**
+     * Ask the seat to move what the card it just played does
+     *
+     * @return a future of the move, completing with null to discard the card
+     */
+    public CompletableFuture<Move> chooseMove(GameEngine engine, Card card) {
+        Strategy strategy = engine.getCurrentStrategy();
+        return submit(() -> strategy.chooseMove(engine, card));
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> decision) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        running.add(result);
+        Thread thread = start(() -> {
+            try {
+                result.complete(decision.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            running.remove(result);
+            if (result.isCancelled()) {
+                thread.interrupt();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Run work on the engine on a new thread, once the thread started
+     * before it has left the engine. Work interrupted while waiting is
+     * skipped.
+     */
+    private Thread start(Runnable work) {
+        if (closed) {
+            throw new IllegalStateException("Decision executor is closed");
+        }
+        CompletableFuture<Void> previous = idle;
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        idle = done;
+        return threads.start(() -> {
+            try {
+                previous.join();
+                if (!Thread.currentThread().isInterrupted()) {
+                    work.run();
+                }
+            } finally {
+                done.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Let the next seat ponder on the position the engine's pending move
+     * leaves, until {@link #stopPondering()} is called
+     */
+    public void ponder(GameEngine engine) {
+        stopPondering();
+        ponderer = start(() -> {
+            engine.applyPendingMove();
+            try {
+                if (!engine.isGameOver()) {
+                    engine.getCurrentStrategy().ponder(engine, System.nanoTime() + PONDER_LIMIT_NANOS);
+                }
+            } catch (RuntimeException e) {
+                // Pondering is only a head start; a strategy that fails here
+                // fails again in the real decision, which reports it
+            } finally {
+                engine.undo();
+            }
+        });
+    }
+
+    /**
+     * Interrupt pondering
+     *
+     * @return a future completed once the engine is back where it was
+     */
+    public CompletableFuture<Void> stopPondering() {
+        if (ponderer != null) {
+            ponderer.interrupt();
+            ponderer = null;
+        }
+        return idle;
+    }
+
+    /**
+     * Cancel every decision still running, and pondering
+     *
+     * @return a future completed once no thread works on the engine any more
+     */
+    public CompletableFuture<Void> cancelAll() {
+        for (CompletableFuture<?> decision : running) {
+            decision.cancel(true);
+        }
+        return stopPondering();
+    }
+
+    /**
+     * Number of decisions submitted and not completed yet
+     */
+    public int getRunningCount() {
+        return running.size();
+    }
+
+    /**
+     * Cancel what is running and stop accepting decisions
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cancelAll();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package application;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.LongConsumer;
+
+/**
+ * Preallocated ring buffer of everything that happened in a game.
+ *
+ * Every committed mutation (a card dealt or played, a marble released,
+ * moved or captured, the turn passing, a new deal, the win) is packed into
+ * a single long and written into the ring, so recording an event never
+ * allocates and never blocks. The engine is the only writer. Readers on
+ * any thread tail the journal by sequence number and decode the fields
+ * with the static accessors; a reader that falls more than a ring behind
+ * skips ahead to the oldest event still held.
+ *
+ * Moves tried with apply/undo are not journaled, only the game itself.
+ *
+ * Record layout, low bits first: type (8), seat (8), slot (8), from
+ * square (8), to square (8), card value or team (8), loop count (16).
+ */
+public final class EventJournal {
+    /** Returned for a sequence that is not (or no longer) in the ring */
+    public static final long NONE = 0;
+
+    /** A new game starts; seat is the first to play */
+    public static final int NEW_GAME = 1;
+    /** A card is dealt to seat */
+    public static final int DEALT = 2;
+    /** Seat plays a card */
+    public static final int PLAYED = 3;
+    /** A marble leaves home onto its base */
+    public static final int RELEASED = 4;
+    /** A marble moves between two squares */
+    public static final int MOVED = 5;
+    /** A marble standing on from is sent home; seat is its owner */
+    public static final int CAPTURED = 6;
+    /** The turn passes to seat */
+    public static final int TURN = 7;
+    /** Every hand is empty and a new deal starts; value is the hand size */
+    public static final int LOOP = 8;
+    /** The game is over; value is the winning team */
+    public static final int WON = 9;
+
+    private static final String[] NAMES = {
+        "NONE", "NEW_GAME", "DEALT", "PLAYED", "RELEASED", "MOVED", "CAPTURED", "TURN", "LOOP", "WON"
+    };
+
+    private final long[] ring;
+    private final int mask;
+    // Number of events written so far; publishing it releases the ring entries
+    private volatile long published;
+
+    public EventJournal() {
+        this(4096);
+    }
+
+    /**
+     * @param capacity events kept; rounded up to a power of two
+     */
+    public EventJournal(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        ring = new long[size];
+        mask = size - 1;
+    }
+
+    void append(int type, int seat, int slot, int from, int to, int value, int count) {
+        long sequence = published;
+        ring[(int) sequence & mask] = (type & 0xFFL)
+            | (seat & 0xFFL) << 8
+            | (slot & 0xFFL) << 16
+            | (from & 0xFFL) << 24
+            | (to & 0xFFL) << 32
+            | (value & 0xFFL) << 40
+            | (count & 0xFFFFL) << 48;
+        published = sequence + 1;
+    }
+
+    /**
+     * Sequence number the next event will get, i.e. the number of events
+     * written so far
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * Sequence number of the oldest event still in the ring
+     */
+    public long getOldest() {
+        return Math.max(0, published - ring.length);
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * The event with a sequence number, or {@link #NONE} if it has not been
+     * written yet or was overwritten
+     */
+    public long get(long sequence) {
+        if (sequence < getOldest() || sequence >= published) {
+            return NONE;
+        }
+        long event = ring[(int) sequence & mask];
+        // The writer may have lapped us while we were reading. It stores an
+        // entry before publishing it, so the entry a ring ahead of us may
+        // already be half written while published still lets us in.
+        VarHandle.acquireFence();
+        return sequence + ring.length <= published ? NONE : event;
+    }
+
+    /**
+     * Hand every event from a sequence number up to the newest one to a
+     * consumer, skipping ahead if the reader has been lapped
+     *
+     * @return the sequence number to continue from
+     */
+    public long drain(long from, LongConsumer consumer) {
+        long sequence = Math.max(from, getOldest());
+        long end = published;
+        while (sequence < end) {
+            long event = get(sequence);
+            if (event == NONE) {
+                sequence = Math.max(sequence + 1, getOldest());
+                continue;
+            }
+            consumer.accept(event);
+            sequence++;
+        }
+        return sequence;
+    }
+
+    public static int type(long event) {
+        return (int) (event & 0xFF);
+    }
+
+    public static int seat(long event) {
+        return (int) (event >>> 8 & 0xFF);
+    }
+
+    /**
+     * GameState slot of the marble
+     */
+    public static int slot(long event) {
+        return (int) (event >>> 16 & 0xFF);
+    }
+
+    public static int from(long event) {
+        return (int) (event >>> 24 & 0xFF);
+    }
+
+    public static int to(long event) {
+        return (int) (event >>> 32 & 0xFF);
+    }
+
+    /**
+     * Card.Value ordinal for card events, hand size for LOOP, team for WON
+     */
+    public static int value(long event) {
+        return (int) (event >>> 40 & 0xFF);
+    }
+
+    /**
+     * Loop count for LOOP events (modulo 65536)
+     */
+    public static int count(long event) {
+        return (int) (event >>> 48 & 0xFFFF);
+    }
+
+    /**
+     * Human-readable form of an event, for logs and debugging
+     */
+    public static String describe(long event) {
+        String player = Seat.byIndex(seat(event)).getName();
+        int marble = slot(event) % GameState.MARBLES_PER_SEAT;
+        switch (type(event)) {
+            case NEW_GAME: return "new game, " + player + " starts";
+            case DEALT:    return player + " is dealt " + Card.Value.values()[value(event)];
+            case PLAYED:   return player + " plays " + Card.Value.values()[value(event)];
+            case RELEASED: return player + " brings marble " + marble + " out onto " + to(event);
+            case MOVED:    return player + " moves marble " + marble + " from " + from(event) + " to " + to(event);
+            case CAPTURED: return player + "'s marble " + marble + " is captured on " + from(event);
+            case TURN:     return "turn passes to " + player;
+            case LOOP:     return "loop " + count(event) + ": dealing " + value(event) + " cards each";
+            case WON:      return "team " + value(event) + " wins";
+            default:       return NAMES[0];
+        }
+    }
+
+    /**
+     * Name of an event type
+     */
+    public static String typeName(int type) {
+        return type >= 0 && type < NAMES.length ? NAMES[type] : "UNKNOWN";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1358 @@
+package application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The GameEngine owns the game state and enforces the rules of Jackaroo
+ * (movement, captures, win detection and dealing).
+ *
+ * It never touches a Pane, a Timeline or the FX application thread: every
+ * mutation is applied synchronously, so games can be advanced as fast as the
+ * caller wants. The Board only renders what the engine decides.
+ *
+ * The track is described by a {@link BoardTopology}; the Board always uses
+ * the standard four-seat board, headless games can use generated tracks with
+ * 2, 4 or 6 seats and several decks.
+ *
+ * Three optional variants of the standard rules can be switched on with
+ * {@link #setVariants(int)}: a SEVEN split over two marbles, a JACK swapping
+ * a marble with an opponent's, and jokers as wildcards. The built-in players
+ * do not use them; they are there for the move generator and for strategies
+ * that do.
+ */
+public final class GameEngine {
+    /** A SEVEN may be split into two forward moves of two own marbles */
+    public static final int SPLIT_SEVEN = 1;
+    /** A JACK may also swap an own marble on the track with an opponent's */
+    public static final int JACK_SWAP = 2;
+    /** Two jokers per deck, each playable as any other value */
+    public static final int JOKERS = 4;
+
+    // Track layout and players in seat order
+    private final BoardTopology topology;
+    private final Player[] players;
+    // Who decides for each seat; the players themselves unless replaced
+    private final Strategy[] strategies;
+
+    // Current player and turn tracking
+    private int currentPlayerIndex;
+    private int startingPlayerIndex;
+    private int loopCount;
+    private int roundCount;
+
+    // Game result (-1 while the game is running)
+    private boolean gameOver = false;
+    private int winningTeam = -1;
+
+    // Turn loop: the step to run next and what the current turn decided so far
+    private TurnPhase phase = TurnPhase.PLAY_CARD;
+    private Card playedCard;
+    private Move pendingMove;
+    private int captured;
+    private boolean dealt;
+
+    // Packed marble positions and home flags
+    private final GameState state;
+
+    // Precomputed movement lookups
+    private final MoveTables tables;
+
+    // Moves applied with apply(), newest last
+    private final UndoLog undoLog = new UndoLog();
+
+    // Zobrist keys of the cards in every hand XORed
+    private long handHash;
+
+    // Every committed mutation, for replays, metrics and logging
+    private final EventJournal journal = new EventJournal();
+
+    // Latest committed state for readers on other threads
+    private volatile GameSnapshot snapshot;
+    // Seats whose hand changed since the last snapshot
+    private int dirtyHands;
+
+    // Per seat: slot bitmask of the opposing team's marbles
+    private final int[] opponentSlots;
+    // Per team (1 and 2): slot bitmask of the team's marbles
+    private final int[] teamSlots = new int[3];
+
+    // Steps per Card.Value ordinal; FOUR moves backward, a JOKER takes another value's
+    private static final int[] STEPS = {1, 2, 3, -4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 0};
+    private static final int ACE = Card.Value.ACE.ordinal();
+    private static final int SEVEN = Card.Value.SEVEN.ordinal();
+    private static final int JACK = Card.Value.JACK.ordinal();
+    private static final int KING = Card.Value.KING.ordinal();
+    private static final int JOKER = Card.Value.JOKER.ordinal();
+
+    // Rule variants in play, a mask of SPLIT_SEVEN, JACK_SWAP and JOKERS
+    private int variants;
+
+    // Card deck and discard pile
+    private final List<Card> deck;
+    private final List<Card> discardPile;
+
+    // Seed of the current game; the deck and every seat draw from their own
+    // stream split off it, so a game replays exactly from its seed
+    private long seed;
+    private SplittableRandom random;
+    private final SplittableRandom[] seatRandom;
+
+    /**
+     * Steps of a turn, in the order {@link #step()} runs them
+     */
+    public enum TurnPhase {
+        /** Ask the seat for a card and play it */
+        PLAY_CARD,
+        /** Ask where the played card moves a marble */
+        MOVE_MARBLE,
+        /** Apply the move, send captured marbles home and pass the turn */
+        END_TURN,
+        /** A team has won; stepping does nothing */
+        GAME_OVER
+    }
+
+    /**
+     * Creates a new engine for the specified players on the standard board
+     */
+    public GameEngine(Player player1, Player player2, Player player3, Player player4) {
+        this(BoardTopology.standard(), player1, player2, player3, player4);
+    }
+
+    /**
+     * Creates a new engine for a track layout. Players are given in seat
+     * order and must be named player1, player2, ... to match their seats.
+     */
+    public GameEngine(BoardTopology topology, Player... players) {
+        if (players.length != topology.getSeatCount()) {
+            throw new IllegalArgumentException("Expected " + topology.getSeatCount()
+                + " players, got " + players.length);
+        }
+        for (int seat = 0; seat < players.length; seat++) {
+            if (players[seat].getSeat().getIndex() != seat) {
+                throw new IllegalArgumentException(players[seat].getName() + " cannot sit in seat " + seat);
+            }
+        }
+        this.topology = topology;
+        this.players = players.clone();
+        this.strategies = Arrays.copyOf(players, players.length, Strategy[].class);
+        this.tables = MoveTables.forTopology(topology);
+
+        opponentSlots = new int[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            teamSlots[topology.getTeam(seat)] |= GameState.seatMask(seat);
+        }
+        for (int seat = 0; seat < players.length; seat++) {
+            opponentSlots[seat] = teamSlots[3 - topology.getTeam(seat)];
+        }
+
+        state = new GameState(topology);
+        deck = new ArrayList<>();
+        discardPile = new ArrayList<>();
+        seatRandom = new SplittableRandom[players.length];
+        publish();
+    }
+
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Switch rule variants on or off. JOKERS changes the deck and takes
+     * effect with the next {@link #initializeGame()}.
+     *
+     * @param variants a mask of SPLIT_SEVEN, JACK_SWAP and JOKERS
+     */
+    public void setVariants(int variants) {
+        this.variants = variants;
+    }
+
+    public int getVariants() {
+        return variants;
+    }
+
+    /**
+     * Seed the current game was started from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reset all state and deal the first hand from a fresh random seed.
+     * Marbles are (re)created by the players and start in home.
+     */
+    public void initializeGame() {
+        initializeGame(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Reset all state and deal the first hand. The same seed and strategies
+     * play the same game again, move for move.
+     */
+    public void initializeGame(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        random = root.split();
+        for (int seat = 0; seat < players.length; seat++) {
+            seatRandom[seat] = root.split();
+            strategies[seat].seed(seatRandom[seat]);
+        }
+
+        state.reset();
+        undoLog.clear();
+        deck.clear();
+        discardPile.clear();
+        gameOver = false;
+        winningTeam = -1;
+
+        startingPlayerIndex = 0;
+        currentPlayerIndex = 0;
+        loopCount = 0;
+        roundCount = 0;
+
+        for (Player p : players) {
+            p.createMarbles();
+        }
+
+        createDeck();
+        shuffleDeck();
+        journal.append(EventJournal.LOOP, startingPlayerIndex, 0, 0, 0, 4, 0);
+        dealCards(4);
+
+        currentPlayerIndex = startingPlayerIndex;
+        journal.append(EventJournal.NEW_GAME, startingPlayerIndex, 0, 0, 0, 0, 0);
+        phase = TurnPhase.PLAY_CARD;
+        playedCard = null;
+        pendingMove = null;
+        captured = 0;
+        dealt = false;
+        publish();
+    }
+
+    // ------------------------------------------------------------------
+    // Cards
+    // ------------------------------------------------------------------
+
+    /**
+     * Build the deck: every shared card once per deck in the topology, and
+     * both jokers per deck when they are played
+     */
+    private void createDeck() {
+        for (int d = 0; d < topology.getDecks(); d++) {
+            for (int id = 0; id < Card.DECK_SIZE; id++) {
+                deck.add(Card.of(id));
+            }
+            if ((variants & JOKERS) != 0) {
+                deck.add(Card.BLACK_JOKER);
+                deck.add(Card.RED_JOKER);
+            }
+        }
+    }
+
+    /**
+     * Simple Fisher–Yates shuffle
+     */
+    private void shuffleDeck() {
+        for (int i = deck.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card tmp = deck.get(i);
+            deck.set(i, deck.get(j));
+            deck.set(j, tmp);
+        }
+    }
+
+    /**
+     * Deal cards to each player, one at a time in turn order
+     */
+    private void dealCards(int perPlayer) {
+        for (int p = 0; p < players.length; p++) {
+            players[p].clearCards();
+        }
+        handHash = 0;
+
+        for (int i = 0; i < perPlayer; i++) {
+            for (int p = 0; p < players.length; p++) {
+                refillIfEmpty();
+                if (!deck.isEmpty()) {
+                    Card card = deck.remove(0);
+                    getPlayerByIndex(p).addCard(card);
+                    cardAdded(p, card);
+                    journal.append(EventJournal.DEALT, p, 0, 0, 0, card.getValue().ordinal(), 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Account for a card that just entered a seat's hand
+     */
+    private void cardAdded(int seat, Card card) {
+        dirtyHands |= 1 << seat;
+        int copies = players[seat].getHand().count(card.getValue());
+        handHash ^= Zobrist.hand(seat, card.getValue().ordinal(), copies - 1);
+    }
+
+    /**
+     * Account for a card that just left a seat's hand
+     */
+    private void cardRemoved(int seat, Card card) {
+        dirtyHands |= 1 << seat;
+        int copies = players[seat].getHand().count(card.getValue());
+        handHash ^= Zobrist.hand(seat, card.getValue().ordinal(), copies);
+    }
+
+    /**
+     * Move discard pile back into deck if empty
+     */
+    private void refillIfEmpty() {
+        if (deck.isEmpty()) {
+            deck.addAll(discardPile);
+            discardPile.clear();
+            shuffleDeck();
+        }
+    }
+
+    /**
+     * Take a card out of the player's hand and put it on the discard pile
+     */
+    public void playCard(Player player, Card card) {
+        discardPile.add(card);
+        player.removeCard(card);
+        cardRemoved(seatOf(player), card);
+        journal.append(EventJournal.PLAYED, seatOf(player), 0, 0, 0, card.getValue().ordinal(), 0);
+        publish();
+    }
+
+    // ------------------------------------------------------------------
+    // Turn handling
+    // ------------------------------------------------------------------
+
+    /**
+     * Advance to the next player, dealing a new hand once everybody has
+     * played out their cards.
+     *
+     * @return true if new cards were dealt
+     */
+    public boolean nextTurn() {
+        if (gameOver) {
+            return false;
+        }
+        boolean dealt = false;
+
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.length;
+
+        // If we've completed a round
+        if (currentPlayerIndex == startingPlayerIndex) {
+            roundCount++;
+
+            // Check if all players have used all their cards
+            if (allHandsEmpty()) {
+
+                // Complete a loop
+                loopCount++;
+
+                // 4 cards for the first two loops, 5 from the third loop onwards
+                int cardsPerPlayer = loopCount >= 2 ? 5 : 4;
+                journal.append(EventJournal.LOOP, startingPlayerIndex, 0, 0, 0, cardsPerPlayer, loopCount);
+                dealCards(cardsPerPlayer);
+                dealt = true;
+
+                // Update starting player after every three loops
+                if (loopCount % 3 == 0) {
+                    startingPlayerIndex = (startingPlayerIndex + 1) % players.length;
+                    currentPlayerIndex = startingPlayerIndex;
+                }
+            }
+        }
+        journal.append(EventJournal.TURN, currentPlayerIndex, 0, 0, 0, 0, 0);
+        publish();
+        return dealt;
+    }
+
+    // ------------------------------------------------------------------
+    // Turn loop
+    // ------------------------------------------------------------------
+
+    /**
+     * Let something other than the player decide for a seat
+     */
+    public void setStrategy(int seat, Strategy strategy) {
+        strategies[seat] = strategy;
+        // Mid-game the new strategy takes over the seat's random stream
+        if (seatRandom[seat] != null) {
+            strategy.seed(seatRandom[seat]);
+        }
+    }
+
+    public Strategy getStrategy(int seat) {
+        return strategies[seat];
+    }
+
+    /**
+     * The step the next call to {@link #step()} will run
+     */
+    public TurnPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Run the pending step of the current turn and move on to the next one.
+     *
+     * Every call does a bounded amount of work and returns, so headless games
+     * loop on it for as many turns as they like without the stack growing,
+     * and the UI calls it once per animation. Seats with an empty hand pass
+     * straight to END_TURN.
+     *
+     * @return the phase the next call will run
+     */
+    public TurnPhase step() {
+        switch (phase) {
+            case PLAY_CARD:
+                return stepWithCard(isDecisionPending()
+                    ? strategies[currentPlayerIndex].chooseCard(this) : null);
+            case MOVE_MARBLE:
+                return stepWithMove(strategies[currentPlayerIndex].chooseMove(this, playedCard));
+            case END_TURN:
+                captured = pendingMove != null ? playMove(pendingMove) : 0;
+                dealt = nextTurn();
+                phase = gameOver ? TurnPhase.GAME_OVER : TurnPhase.PLAY_CARD;
+                break;
+            default:
+                break;
+        }
+        return phase;
+    }
+
+    /**
+     * Whether the next step needs the current seat's strategy to decide: a
+     * card to play (unless the hand is empty) or the move for the card just
+     * played. The decision can be taken anywhere, for instance on another
+     * thread, and handed in with {@link #stepWithCard(Card)} or
+     * {@link #stepWithMove(Move)}; the engine must not be changed meanwhile.
+     */
+    public boolean isDecisionPending() {
+        return phase == TurnPhase.MOVE_MARBLE
+            || phase == TurnPhase.PLAY_CARD && !players[currentPlayerIndex].getHand().isEmpty();
+    }
+
+    /**
+     * Run the PLAY_CARD step with a card decided outside the engine
+     *
+     * @param card the card to play, or null if the hand is empty
+     * @return the phase the next call will run
+     */
+    public TurnPhase stepWithCard(Card card) {
+        if (phase != TurnPhase.PLAY_CARD) {
+            throw new IllegalStateException("Not waiting for a card: " + phase);
+        }
+        pendingMove = null;
+        playedCard = card;
+        if (card == null) {
+            phase = TurnPhase.END_TURN;
+        } else {
+            playCard(players[currentPlayerIndex], card);
+            phase = TurnPhase.MOVE_MARBLE;
+        }
+        return phase;
+    }
+
+    /**
+     * Run the MOVE_MARBLE step with a move decided outside the engine
+     *
+     * @param move the move for the played card, or null to discard it
+     * @return the phase the next call will run
+     */
+    public TurnPhase stepWithMove(Move move) {
+        if (phase != TurnPhase.MOVE_MARBLE) {
+            throw new IllegalStateException("Not waiting for a move: " + phase);
+        }
+        pendingMove = move;
+        phase = TurnPhase.END_TURN;
+        return phase;
+    }
+
+    /**
+     * Strategy deciding for the seat to move
+     */
+    public Strategy getCurrentStrategy() {
+        return strategies[currentPlayerIndex];
+    }
+
+    /**
+     * Finish the current turn without stopping between steps
+     */
+    public void playTurn() {
+        do {
+            step();
+        } while (phase != TurnPhase.PLAY_CARD && phase != TurnPhase.GAME_OVER);
+    }
+
+    /**
+     * Play whole turns until a team wins or the turn limit is reached
+     *
+     * @return the number of turns played
+     */
+    public int playGame(int maxTurns) {
+        int turns = 0;
+        while (phase != TurnPhase.GAME_OVER && turns < maxTurns) {
+            playTurn();
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Card played this turn, or null if the seat had nothing to play
+     */
+    public Card getPlayedCard() {
+        return playedCard;
+    }
+
+    /**
+     * Move chosen this turn, or null if the card was discarded. Applied by
+     * the END_TURN step.
+     */
+    public Move getPendingMove() {
+        return pendingMove;
+    }
+
+    /**
+     * Slot bitmask of the marbles the last END_TURN step sent home
+     */
+    public int getCapturedSlots() {
+        return captured;
+    }
+
+    /**
+     * Whether the last END_TURN step dealt new hands
+     */
+    public boolean isNewHandDealt() {
+        return dealt;
+    }
+
+    private boolean allHandsEmpty() {
+        for (Player p : players) {
+            if (!p.getHand().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Player getCurrentPlayer() {
+        return getPlayerByIndex(currentPlayerIndex);
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public int getLoopCount() {
+        return loopCount;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Lookup player by turn index
+     */
+    public Player getPlayerByIndex(int idx) {
+        return idx >= 0 && idx < players.length ? players[idx] : players[0];
+    }
+
+    public int getSeatCount() {
+        return players.length;
+    }
+
+    /**
+     * Given a Player, return the board space where their marbles leave home.
+     */
+    public int getPlayerBase(Player player) {
+        return topology.getBase(seatOf(player));
+    }
+
+    /**
+     * First square of a player's safe zone
+     */
+    public int getSafeZoneStart(Player player) {
+        return topology.getSafeZoneStart(seatOf(player));
+    }
+
+    /**
+     * The square just before a player's safe zone
+     */
+    public int getSafeZoneEntry(Player player) {
+        return topology.getSafeZoneEntry(seatOf(player));
+    }
+
+    /**
+     * Turn index of a player
+     */
+    private int seatOf(Player player) {
+        return player.getSeat().getIndex();
+    }
+
+    /**
+     * Find which player owns a marble
+     */
+    public Player findMarbleOwner(Marble marble) {
+        return getPlayerByIndex(findMarbleSeat(marble));
+    }
+
+    /**
+     * Find the turn index of the player owning a marble
+     */
+    private int findMarbleSeat(Marble marble) {
+        return marble.getSeat().getIndex();
+    }
+
+    /**
+     * Packed state slot of a marble
+     */
+    private int slotOf(Marble marble) {
+        return marble.getSlot();
+    }
+
+    /**
+     * Marble occupying a packed state slot
+     */
+    private Marble marbleAt(int slot) {
+        return getPlayerByIndex(GameState.seatOf(slot)).getMarbles().get(slot % GameState.MARBLES_PER_SEAT);
+    }
+
+    /**
+     * The marble in a packed state slot
+     */
+    public Marble getMarble(int slot) {
+        return marbleAt(slot);
+    }
+
+    /**
+     * The marble a move moves
+     */
+    public Marble getMarble(Move move) {
+        return marbleAt(move.getSlot());
+    }
+
+    /**
+     * The second marble of a split or swap, or null
+     */
+    public Marble getSecondMarble(Move move) {
+        return move.hasSecondMarble() ? marbleAt(move.getSlot2()) : null;
+    }
+
+    /**
+     * Zobrist hash of the whole position: marbles, home flags, the seat to
+     * move and the cards in every hand. Equal positions hash equally however
+     * they were reached.
+     */
+    public long getHash() {
+        return state.getHash() ^ handHash ^ Zobrist.turn(currentPlayerIndex);
+    }
+
+    /**
+     * Every committed mutation of this game, in order. Safe to read from any
+     * thread.
+     */
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * The packed marble state. Callers must not keep it across moves.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    // ------------------------------------------------------------------
+    // Marble state
+    // ------------------------------------------------------------------
+
+    /**
+     * Place a marble on a board position, resolving captures and checking
+     * for a winner.
+     *
+     * @return slot bitmask of the marbles that were captured and sent back home
+     */
+    public int moveMarble(Marble marble, int position) {
+        return moveMarble(slotOf(marble), position);
+    }
+
+    /**
+     * Place the marble in a slot on a board position, resolving captures
+     * and checking for a winner.
+     *
+     * @return slot bitmask of the marbles that were captured and sent back home
+     */
+    public int moveMarble(int slot, int position) {
+        journalMove(slot, position);
+        state.place(slot, position);
+
+        int captured = checkForCaptures(slot, position);
+        boolean wasOver = gameOver;
+        checkForWin();
+        if (gameOver && !wasOver) {
+            journal.append(EventJournal.WON, 0, 0, 0, 0, winningTeam, 0);
+        }
+        publish();
+        return captured;
+    }
+
+    /**
+     * Move the marbles of a chosen move: a swap exchanges them, a split
+     * moves the first and then the second
+     *
+     * @return slot bitmask of the marbles that were captured and sent back home
+     */
+    private int playMove(Move move) {
+        if (move.getKind() == MoveBuffer.SWAP) {
+            swapMarbles(move.getSlot(), move.getSlot2());
+            return 0;
+        }
+        int captured = moveMarble(move.getSlot(), move.getTo());
+        if (move.hasSecondMarble()) {
+            captured |= moveMarble(move.getSlot2(), move.getTo2());
+        }
+        return captured;
+    }
+
+    /**
+     * Journal a marble about to be placed on a square
+     */
+    private void journalMove(int slot, int position) {
+        int seat = GameState.seatOf(slot);
+        if (state.inHome(slot)) {
+            journal.append(EventJournal.RELEASED, seat, slot, GameState.OFF_BOARD, position, 0, 0);
+        } else {
+            journal.append(EventJournal.MOVED, seat, slot, state.position(slot), position, 0, 0);
+        }
+    }
+
+    /**
+     * Swap two marbles' positions (used by Jack's special move).
+     */
+    public void swapMarbles(Marble a, Marble b) {
+        swapMarbles(slotOf(a), slotOf(b));
+    }
+
+    /**
+     * Swap the positions of the marbles in two slots
+     */
+    public void swapMarbles(int slotA, int slotB) {
+        int posA = getMarblePosition(GameState.seatOf(slotA), slotA % GameState.MARBLES_PER_SEAT);
+        int posB = getMarblePosition(GameState.seatOf(slotB), slotB % GameState.MARBLES_PER_SEAT);
+
+        journalMove(slotA, posB);
+        journalMove(slotB, posA);
+        state.place(slotA, posB);
+        state.place(slotB, posA);
+        publish();
+    }
+
+    /**
+     * Send every other player's marble sitting on the given position back home
+     *
+     * @return the slots captured
+     */
+    private int checkForCaptures(int captureSlot, int position) {
+        int captured = capturesAt(GameState.seatOf(captureSlot), position);
+
+        for (int victims = captured; victims != 0; victims &= victims - 1) {
+            int slot = Integer.numberOfTrailingZeros(victims);
+            journal.append(EventJournal.CAPTURED, GameState.seatOf(slot), slot, position, GameState.OFF_BOARD, 0, 0);
+            state.sendHome(slot);
+        }
+        return captured;
+    }
+
+    /**
+     * Slots on a square that could be captured there: everyone except a
+     * marble sitting in its own safe zone
+     */
+    private int capturableAt(int position) {
+        return state.occupantsAt(position) & ~tables.shelteredSlots(position);
+    }
+
+    /**
+     * Check if an opponent of the seat has a capturable marble on the square.
+     * Partners' marbles and marbles in their own safe zone do not count.
+     */
+    public boolean isOpponentAt(int seat, int position) {
+        return (capturableAt(position) & opponentSlots[seat]) != 0;
+    }
+
+    /**
+     * Check if one of the seat's own marbles stands on the square
+     */
+    public boolean isOwnMarbleAt(int seat, int position) {
+        return ((state.occupancyLo(seat) & GameState.squareLo(position))
+              | (state.occupancyHi(seat) & GameState.squareHi(position))) != 0;
+    }
+
+    /**
+     * Check if one of the player's own marbles stands on the square
+     */
+    public boolean isOwnMarbleAt(Player player, int position) {
+        return isOwnMarbleAt(seatOf(player), position);
+    }
+
+    /**
+     * Check if an opponent of the player has a capturable marble on the square
+     */
+    public boolean isOpponentMarbleAt(Player player, int position) {
+        return isOpponentAt(seatOf(player), position);
+    }
+
+    /**
+     * Get the current position of a marble
+     */
+    public int getMarblePosition(Marble marble) {
+        return getMarblePosition(findMarbleSeat(marble), marble.getIndex());
+    }
+
+    /**
+     * Get the current position of a seat's marble. Marbles that are not on
+     * the board report their player's base.
+     */
+    public int getMarblePosition(int seat, int marble) {
+        int position = state.position(GameState.slot(seat, marble));
+        return position != GameState.OFF_BOARD ? position : topology.getBase(seat);
+    }
+
+    /**
+     * Check if a marble is still in home
+     */
+    public boolean isMarbleInHome(Marble marble) {
+        return state.inHome(slotOf(marble));
+    }
+
+    /**
+     * Check if a seat's marble is still in home
+     */
+    public boolean isMarbleInHome(int seat, int marble) {
+        return state.inHome(GameState.slot(seat, marble));
+    }
+
+    // ------------------------------------------------------------------
+    // Snapshots
+    // ------------------------------------------------------------------
+
+    /**
+     * The latest committed state. Safe to call from any thread; the result
+     * never changes. Moves tried with apply/undo are not published.
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publish the current state, rebuilding only the rows that changed
+     */
+    private void publish() {
+        GameSnapshot previous = snapshot;
+        byte[][] positions = new byte[players.length][];
+        byte[][] hands = new byte[players.length][];
+
+        for (int seat = 0; seat < players.length; seat++) {
+            byte[] row = previous == null ? null : previous.positionRow(seat);
+            if (row == null || !matchesPositions(seat, row)) {
+                row = new byte[GameState.MARBLES_PER_SEAT];
+                for (int m = 0; m < row.length; m++) {
+                    row[m] = (byte) state.position(GameState.slot(seat, m));
+                }
+            }
+            positions[seat] = row;
+
+            byte[] hand = previous == null ? null : previous.handRow(seat);
+            if (hand == null || (dirtyHands & (1 << seat)) != 0) {
+                Hand cards = players[seat].getHand();
+                hand = new byte[cards.size()];
+                for (int c = 0; c < hand.length; c++) {
+                    hand[c] = (byte) cards.get(c).getValue().ordinal();
+                }
+            }
+            hands[seat] = hand;
+        }
+        dirtyHands = 0;
+
+        snapshot = previous == null
+            ? new GameSnapshot(0, topology, positions, hands,
+                               currentPlayerIndex, roundCount, loopCount, winningTeam, getHash())
+            : previous.next(positions, hands,
+                            currentPlayerIndex, roundCount, loopCount, winningTeam, getHash());
+    }
+
+    private boolean matchesPositions(int seat, byte[] row) {
+        for (int m = 0; m < row.length; m++) {
+            if (row[m] != state.position(GameState.slot(seat, m))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------------------
+    // Make / unmake
+    // ------------------------------------------------------------------
+
+    /**
+     * Apply a generated move: play the card, move the marble, send captured
+     * marbles home and pass the turn to the next seat. No cards are dealt,
+     * so a search can apply and undo moves freely; the turn driver deals
+     * through {@link #nextTurn()} as usual.
+     *
+     * A move from {@link #createMove} and friends, whose card has already
+     * been played, only moves the marbles and passes the turn.
+     */
+    public void apply(Move move) {
+        apply(move.getSeat(), move.getCard(), move.getSlot(), move.getTo(),
+              move.getSlot2(), move.getTo2(), move.getKind());
+    }
+
+    /**
+     * Apply the move waiting for END_TURN, whose card has already been
+     * played, to look at the position it leaves; {@link #undo()} takes it
+     * back. Nothing is dealt and nothing is published.
+     *
+     * @throws IllegalStateException if no move is waiting
+     */
+    public void applyPendingMove() {
+        if (phase != TurnPhase.END_TURN || pendingMove == null) {
+            throw new IllegalStateException("No move waiting: " + phase);
+        }
+        Move move = pendingMove;
+        apply(move.getSeat(), -1, move.getSlot(), move.getTo(),
+              move.getSlot2(), move.getTo2(), move.getKind());
+    }
+
+    /**
+     * Apply a row of a move buffer without creating a Move
+     */
+    public void apply(MoveBuffer buffer, int i) {
+        apply(buffer.getSeat(), buffer.card(i), buffer.slot(i), buffer.to(i),
+              buffer.slot2(i), buffer.to2(i), buffer.kind(i));
+    }
+
+    private void apply(int seat, int card, int slot, int to, int slot2, int to2, int kind) {
+        int record = undoLog.push();
+        undoLog.set(record, UndoLog.SLOT, slot);
+        undoLog.set(record, UndoLog.FROM, state.inHome(slot) ? GameState.OFF_BOARD : state.position(slot));
+        undoLog.set(record, UndoLog.TO, to);
+        undoLog.set(record, UndoLog.SLOT2, slot2);
+        undoLog.set(record, UndoLog.FROM2, slot2 < 0 ? GameState.OFF_BOARD : state.position(slot2));
+        undoLog.set(record, UndoLog.TO2, to2);
+        undoLog.set(record, UndoLog.SEAT, seat);
+        undoLog.set(record, UndoLog.CARD, card);
+        undoLog.set(record, UndoLog.TURN, currentPlayerIndex);
+        undoLog.set(record, UndoLog.WINNER, winningTeam);
+
+        // Play the card, unless that already happened
+        if (card >= 0) {
+            Card played = players[seat].getHand().remove(card);
+            discardPile.add(played);
+            cardRemoved(seat, played);
+        }
+
+        // Move the marbles and capture; a swap captures nothing
+        boolean swap = kind == MoveBuffer.SWAP;
+        undoLog.set(record, UndoLog.CAPTURES, place(slot, to, !swap));
+        if (slot2 >= 0) {
+            undoLog.set(record, UndoLog.CAPTURES2, place(slot2, to2, !swap));
+        }
+
+        checkForWin();
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.length;
+    }
+
+    /**
+     * Put a marble on a square for apply(), sending home what it captures
+     *
+     * @return the slots captured
+     */
+    private int place(int slot, int to, boolean capture) {
+        state.place(slot, to);
+        int victims = capture ? capturesAt(GameState.seatOf(slot), to) : 0;
+        for (int v = victims; v != 0; v &= v - 1) {
+            state.sendHome(Integer.numberOfTrailingZeros(v));
+        }
+        return victims;
+    }
+
+    /**
+     * Take back the most recently applied move
+     *
+     * @throws IllegalStateException if there is nothing to undo
+     */
+    public void undo() {
+        int record = undoLog.pop();
+
+        currentPlayerIndex = undoLog.get(record, UndoLog.TURN);
+        winningTeam = undoLog.get(record, UndoLog.WINNER);
+        gameOver = winningTeam != -1;
+
+        // The second marble moved last
+        int slot2 = undoLog.get(record, UndoLog.SLOT2);
+        if (slot2 >= 0) {
+            unplace(slot2, undoLog.get(record, UndoLog.FROM2), undoLog.get(record, UndoLog.TO2),
+                    undoLog.get(record, UndoLog.CAPTURES2));
+        }
+        unplace(undoLog.get(record, UndoLog.SLOT), undoLog.get(record, UndoLog.FROM),
+                undoLog.get(record, UndoLog.TO), undoLog.get(record, UndoLog.CAPTURES));
+
+        // The played card is on top of the discard pile
+        int index = undoLog.get(record, UndoLog.CARD);
+        if (index >= 0) {
+            int seat = undoLog.get(record, UndoLog.SEAT);
+            Card card = discardPile.remove(discardPile.size() - 1);
+            players[seat].getHand().add(index, card);
+            cardAdded(seat, card);
+        }
+    }
+
+    /**
+     * Take back one marble's part of a move
+     */
+    private void unplace(int slot, int from, int to, int captures) {
+        // Captured marbles all stood on the landing square
+        for (int v = captures; v != 0; v &= v - 1) {
+            state.place(Integer.numberOfTrailingZeros(v), to);
+        }
+
+        if (from == GameState.OFF_BOARD) {
+            state.sendHome(slot);
+        } else {
+            state.place(slot, from);
+        }
+    }
+
+    /**
+     * Number of applied moves that can still be undone
+     */
+    public int getUndoDepth() {
+        return undoLog.depth();
+    }
+
+    // ------------------------------------------------------------------
+    // Win detection
+    // ------------------------------------------------------------------
+
+    /**
+     * Team 1 = players 1 & 3 (& 5), Team 2 = players 2 & 4 (& 6)
+     */
+    private void checkForWin() {
+        boolean team1Wins = teamInSafeZone(1);
+        boolean team2Wins = teamInSafeZone(2);
+
+        if (team1Wins || team2Wins) {
+            gameOver = true;
+            winningTeam = team1Wins ? 1 : 2;
+        }
+    }
+
+    private boolean teamInSafeZone(int team) {
+        for (int seat = 0; seat < players.length; seat++) {
+            if (topology.getTeam(seat) == team && !allMarblesInSafeZone(seat)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return 1 or 2 once the game is over, -1 before that
+     */
+    public int getWinningTeam() {
+        return winningTeam;
+    }
+
+    /**
+     * Check if all of a player's marbles are in their safe zone
+     */
+    private boolean allMarblesInSafeZone(int seat) {
+        // Own marbles never share a square, so one bit per marble
+        int inLane = Long.bitCount(state.occupancyLo(seat) & tables.laneLo(seat))
+                   + Long.bitCount(state.occupancyHi(seat) & tables.laneHi(seat));
+        return inLane == GameState.MARBLES_PER_SEAT;
+    }
+
+    // ------------------------------------------------------------------
+    // Movement rules
+    // ------------------------------------------------------------------
+
+    /**
+     * Check if a position is in a player's safe zone
+     */
+    public boolean isInSafeZone(Player player, int position) {
+        return topology.isSafeZone(seatOf(player), position);
+    }
+
+    /**
+     * Check if a position is in another player's safe zone
+     */
+    public boolean isOtherPlayerSafeZone(Player player, int position) {
+        int owner = tables.safeZoneSeat(position);
+        return owner >= 0 && owner != seatOf(player);
+    }
+
+    /**
+     * Number of single steps a player's marble needs from a position to reach
+     * the start of its safe zone (0 once inside)
+     */
+    public int getDistanceToSafeZone(Player player, int position) {
+        return tables.distanceToSafeZone(seatOf(player), position);
+    }
+
+    /**
+     * Calculates the target position after moving a specified number of steps
+     */
+    public int calculateTargetPosition(Player player, int currentPosition, int steps) {
+        return calculateTargetPosition(seatOf(player), currentPosition, steps);
+    }
+
+    /**
+     * Calculates where a seat's marble on a position lands after moving a
+     * number of steps (negative for backward), or the position itself if the
+     * move is not possible
+     */
+    public int calculateTargetPosition(int seat, int currentPosition, int steps) {
+        // Skip calculation if no movement
+        if (steps == 0) {
+            return currentPosition;
+        }
+
+        // Squares holding our other marbles (the one we're moving is excluded)
+        long occupiedLo = state.occupancyLo(seat) & ~GameState.squareLo(currentPosition);
+        long occupiedHi = state.occupancyHi(seat) & ~GameState.squareHi(currentPosition);
+
+        // Backward moves (FOUR) never leave the safe zone
+        if (steps < 0) {
+            return tables.backward(seat, currentPosition, -steps, occupiedLo, occupiedHi);
+        }
+        return tables.forward(seat, currentPosition, steps, occupiedLo, occupiedHi);
+    }
+
+    /**
+     * Describe moving a marble to a square with a card that has already been
+     * played (the move's card index is -1). The target is taken as given,
+     * the way strategies have always been trusted; captures are resolved
+     * against the current position.
+     */
+    public Move createMove(Marble marble, Card card, int to) {
+        int seat = findMarbleSeat(marble);
+        int slot = slotOf(marble);
+        int value = card.getValue().ordinal();
+        boolean home = state.inHome(slot);
+        int kind = home ? MoveBuffer.RELEASE : STEPS[value] < 0 ? MoveBuffer.BACKWARD : MoveBuffer.FORWARD;
+        return new Move(seat, -1, value, slot, home ? GameState.OFF_BOARD : state.position(slot),
+                        to, capturesAt(seat, to), kind);
+    }
+
+    /**
+     * Describe splitting a SEVEN (or a joker played as one) that has already
+     * been played over two marbles; the first moves before the second
+     */
+    public Move createSplit(Marble first, int to, Marble second, int to2) {
+        int seat = findMarbleSeat(first);
+        int slot2 = slotOf(second);
+        return new Move(seat, -1, SEVEN, slotOf(first), getMarblePosition(first), to,
+                        slot2, state.position(slot2), to2,
+                        capturesAt(seat, to) | capturesAt(seat, to2), MoveBuffer.SPLIT);
+    }
+
+    /**
+     * Describe swapping an own marble with an opponent's with a JACK (or a
+     * joker played as one) that has already been played
+     */
+    public Move createSwap(Marble own, Marble other) {
+        int from = getMarblePosition(own);
+        int from2 = getMarblePosition(other);
+        return new Move(findMarbleSeat(own), -1, JACK, slotOf(own), from, from2,
+                        slotOf(other), from2, from, 0, MoveBuffer.SWAP);
+    }
+
+    /**
+     * Steps a card value moves a marble (negative for backward, 0 for a JOKER)
+     */
+    public static int stepsFor(Card.Value value) {
+        return STEPS[value.ordinal()];
+    }
+
+    // ------------------------------------------------------------------
+    // Move generation
+    // ------------------------------------------------------------------
+
+    /**
+     * Fill the buffer with every legal move for a seat's current hand: each
+     * card applied to each marble that it can actually move, plus ACE/KING
+     * releases from home onto a free base. With the variants switched on a
+     * SEVEN also yields every split over two marbles and a JACK every swap,
+     * and a joker yields the moves of every value it can stand for.
+     *
+     * Moves are only generated once per value, since a second card of the
+     * same value reaches the same positions. Where a card can reach one
+     * position in several ways (a joker releasing as ACE or as KING or
+     * stopping behind the same blocker with different values, the two
+     * orders of a split) only the first is kept. Nothing is allocated
+     * unless the buffer has to grow.
+     *
+     * @return the number of moves generated
+     */
+    public int generateMoves(int seat, MoveBuffer buffer) {
+        buffer.reset(seat);
+        Hand hand = players[seat].getHand();
+
+        int generated = 0;
+        for (int c = 0; c < hand.size(); c++) {
+            int value = hand.get(c).getValue().ordinal();
+            if ((generated & 1 << value) != 0) {
+                continue;
+            }
+            generated |= 1 << value;
+
+            buffer.nextCard();
+            if (value == JOKER) {
+                for (int as = 0; as < JOKER; as++) {
+                    generateMoves(seat, c, as, true, buffer);
+                }
+            } else {
+                generateMoves(seat, c, value, false, buffer);
+            }
+        }
+        return buffer.size();
+    }
+
+    /**
+     * Add the moves of one card played as a value
+     *
+     * @param wildcard whether other values of the same card may already
+     *                 have reached the same positions
+     */
+    private void generateMoves(int seat, int card, int value, boolean wildcard, MoveBuffer buffer) {
+        int base = topology.getBase(seat);
+        int steps = STEPS[value];
+
+        // Own marbles on the board, and whether one of them holds the base
+        long ownLo = state.occupancyLo(seat);
+        long ownHi = state.occupancyHi(seat);
+        boolean baseBlocked = isOwnMarbleAt(seat, base);
+
+        for (int m = 0; m < GameState.MARBLES_PER_SEAT; m++) {
+            int slot = GameState.slot(seat, m);
+
+            if (state.inHome(slot)) {
+                if ((value == ACE || value == KING) && !baseBlocked) {
+                    add(buffer, wildcard, card, value, slot, GameState.OFF_BOARD, base,
+                        capturesAt(seat, base), MoveBuffer.RELEASE);
+                }
+                continue;
+            }
+
+            int from = state.position(slot);
+            int to;
+            if (steps < 0) {
+                to = tables.backward(seat, from, -steps, ownLo & ~GameState.squareLo(from), ownHi & ~GameState.squareHi(from));
+            } else {
+                to = tables.forward(seat, from, steps, ownLo & ~GameState.squareLo(from), ownHi & ~GameState.squareHi(from));
+            }
+            if (to != from) {
+                add(buffer, wildcard, card, value, slot, from, to, capturesAt(seat, to),
+                    steps < 0 ? MoveBuffer.BACKWARD : MoveBuffer.FORWARD);
+            }
+        }
+
+        if (value == SEVEN && (variants & SPLIT_SEVEN) != 0) {
+            generateSplits(seat, card, buffer);
+        }
+        if (value == JACK && (variants & JACK_SWAP) != 0) {
+            generateSwaps(seat, card, buffer);
+        }
+    }
+
+    private static void add(MoveBuffer buffer, boolean unique, int card, int value,
+                            int slot, int from, int to, int captures, int kind) {
+        if (unique) {
+            buffer.addUnique(card, value, slot, from, to, -1, -1, -1, captures, kind);
+        } else {
+            buffer.add(card, value, slot, from, to, captures, kind);
+        }
+    }
+
+    /**
+     * Add every split of a SEVEN into a forward move of one marble and the
+     * rest of the steps for another, in both orders. The second marble
+     * moves on the board the first one left behind.
+     */
+    private void generateSplits(int seat, int card, MoveBuffer buffer) {
+        int onBoard = GameState.seatMask(seat) & ~state.getHomeMask();
+        long ownLo = state.occupancyLo(seat);
+        long ownHi = state.occupancyHi(seat);
+
+        for (int first = onBoard; first != 0; first &= first - 1) {
+            int slot = Integer.numberOfTrailingZeros(first);
+            int from = state.position(slot);
+            long restLo = ownLo & ~GameState.squareLo(from);
+            long restHi = ownHi & ~GameState.squareHi(from);
+
+            for (int steps = 1; steps < STEPS[SEVEN]; steps++) {
+                int to = tables.forward(seat, from, steps, restLo, restHi);
+                if (to == from) {
+                    continue;
+                }
+                long afterLo = restLo | GameState.squareLo(to);
+                long afterHi = restHi | GameState.squareHi(to);
+
+                for (int second = onBoard & ~(1 << slot); second != 0; second &= second - 1) {
+                    int slot2 = Integer.numberOfTrailingZeros(second);
+                    int from2 = state.position(slot2);
+                    int to2 = tables.forward(seat, from2, STEPS[SEVEN] - steps,
+                                             afterLo & ~GameState.squareLo(from2), afterHi & ~GameState.squareHi(from2));
+                    if (to2 != from2) {
+                        buffer.addUnique(card, SEVEN, slot, from, to, slot2, from2, to2,
+                                   capturesAt(seat, to) | capturesAt(seat, to2), MoveBuffer.SPLIT);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Add every swap of an own marble on the track with an opponent's marble
+     * on the track. Marbles in home or in their own safe zone cannot be
+     * swapped. No other value moves two marbles of different seats, so
+     * swaps never repeat an outcome.
+     */
+    private void generateSwaps(int seat, int card, MoveBuffer buffer) {
+        int onBoard = ~state.getHomeMask();
+        for (int own = GameState.seatMask(seat) & onBoard; own != 0; own &= own - 1) {
+            int slot = Integer.numberOfTrailingZeros(own);
+            int from = state.position(slot);
+            if (tables.safeZoneSeat(from) >= 0) {
+                continue;
+            }
+            for (int other = opponentSlots[seat] & onBoard; other != 0; other &= other - 1) {
+                int slot2 = Integer.numberOfTrailingZeros(other);
+                int from2 = state.position(slot2);
+                if ((tables.shelteredSlots(from2) & 1 << slot2) == 0) {
+                    buffer.add(card, JACK, slot, from, from2, slot2, from2, from, 0, MoveBuffer.SWAP);
+                }
+            }
+        }
+    }
+
+    /**
+     * Slots a seat's marble landing on a square would send home
+     */
+    private int capturesAt(int seat, int position) {
+        return capturableAt(position) & ~GameState.seatMask(seat);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package application;
+
+/**
+ * Immutable view of a game at one point in time, safe to read from any
+ * thread.
+ *
+ * The engine publishes a new snapshot after every committed change through
+ * a volatile reference. Each seat's marble positions and hand live in their
+ * own small arrays that are never written after publication, and a new
+ * snapshot reuses every row that did not change from its predecessor, so
+ * publishing a move only builds the rows it touched.
+ */
+public final class GameSnapshot {
+    private static final Card.Value[] VALUES = Card.Value.values();
+
+    private final long version;
+    private final BoardTopology topology;
+    // Per seat: square of each marble, GameState.OFF_BOARD while in home
+    private final byte[][] positions;
+    // Per seat: Card.Value ordinals in hand order
+    private final byte[][] hands;
+    private final int currentPlayerIndex;
+    private final int roundCount;
+    private final int loopCount;
+    private final int winningTeam;
+    private final long hash;
+
+    GameSnapshot(long version, BoardTopology topology, byte[][] positions, byte[][] hands,
+                 int currentPlayerIndex, int roundCount, int loopCount, int winningTeam, long hash) {
+        this.version = version;
+        this.topology = topology;
+        this.positions = positions;
+        this.hands = hands;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.roundCount = roundCount;
+        this.loopCount = loopCount;
+        this.winningTeam = winningTeam;
+        this.hash = hash;
+    }
+
+    /**
+     * Build the snapshot following this one, sharing the rows that did not
+     * change. The caller hands over ownership of any new rows.
+     */
+    GameSnapshot next(byte[][] positions, byte[][] hands,
+                      int currentPlayerIndex, int roundCount, int loopCount, int winningTeam, long hash) {
+        return new GameSnapshot(version + 1, topology, positions, hands,
+                                currentPlayerIndex, roundCount, loopCount, winningTeam, hash);
+    }
+
+    /**
+     * Increases by one with every published change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    public int getSeatCount() {
+        return positions.length;
+    }
+
+    /**
+     * Square of a seat's marble, or the seat's base while it is in home
+     */
+    public int getMarblePosition(int seat, int marble) {
+        int position = positions[seat][marble];
+        return position != GameState.OFF_BOARD ? position : topology.getBase(seat);
+    }
+
+    public boolean isMarbleInHome(int seat, int marble) {
+        return positions[seat][marble] == GameState.OFF_BOARD;
+    }
+
+    public int getHandSize(int seat) {
+        return hands[seat].length;
+    }
+
+    public Card.Value getCardValue(int seat, int card) {
+        return VALUES[hands[seat][card]];
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getLoopCount() {
+        return loopCount;
+    }
+
+    public boolean isGameOver() {
+        return winningTeam != -1;
+    }
+
+    /**
+     * @return 1 or 2 once the game is over, -1 before that
+     */
+    public int getWinningTeam() {
+        return winningTeam;
+    }
+
+    /**
+     * Zobrist hash of the position, as {@link GameEngine#getHash()}
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    // Rows are only read by the engine to decide what can be shared
+    byte[] positionRow(int seat) {
+        return positions[seat];
+    }
+
+    byte[] handRow(int seat) {
+        return hands[seat];
+    }
+}
\ No newline at end of file
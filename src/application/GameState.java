@@ -0,0 +1,250 @@
+package application;
+
+import java.util.Arrays;
+
+/**
+ * Packed, primitive representation of where every marble is.
+ *
+ * Each marble owns a slot ({@code seat * MARBLES_PER_SEAT + ordinal}) holding
+ * its board position in a byte, and a bit in {@code homeMask} that is set
+ * while the marble is still in home. The reverse index, square to occupying
+ * slots, is kept as one slot bitmask per square and updated on every place
+ * and sendHome, so "who is on this square" is a single array read. The
+ * Zobrist hash of the marble placement is kept up to date the same way.
+ *
+ * Occupancy is also kept as bitboards: one two-word board per seat plus one
+ * for all marbles, bit {@code s} standing for square {@code s} (squares
+ * 0-63 in the low word, 64 and above in the high word). Blocking, safe-zone
+ * and collision checks are then a few ANDs and popcounts.
+ *
+ * Copying a state is a handful of small array copies, so simulations can
+ * snapshot and restore positions without allocating.
+ */
+public final class GameState {
+    public static final int MARBLES_PER_SEAT = 4;
+
+    /** Position stored for a marble that is not on the board */
+    public static final int OFF_BOARD = 0;
+
+    private final int seats;
+    private final int slots;
+    private final int allHome;
+
+    // Board position per slot (OFF_BOARD while in home)
+    private final byte[] positions;
+    // Bit set per slot while the marble is in home
+    private int homeMask;
+    // Slot bitmask of the marbles standing on each square
+    private final int[] occupants;
+    // Zobrist hash over (slot, square), home counting as square OFF_BOARD
+    private long hash;
+    // Per seat occupancy bitboards, and the union of all seats
+    private final long[] seatLo;
+    private final long[] seatHi;
+    private long allLo;
+    private long allHi;
+
+    /**
+     * State for the standard four-seat board
+     */
+    public GameState() {
+        this(BoardTopology.standard());
+    }
+
+    public GameState(BoardTopology topology) {
+        this(topology.getSeatCount(), topology.getTrackLength());
+    }
+
+    private GameState(int seats, int trackLength) {
+        this.seats = seats;
+        this.slots = seats * MARBLES_PER_SEAT;
+        this.allHome = (int) ((1L << slots) - 1);
+        this.positions = new byte[slots];
+        this.occupants = new int[trackLength + 1];
+        this.seatLo = new long[seats];
+        this.seatHi = new long[seats];
+        reset();
+    }
+
+    public int getSeatCount() {
+        return seats;
+    }
+
+    public int getSlotCount() {
+        return slots;
+    }
+
+    /**
+     * Slot index for a marble of a seat
+     */
+    public static int slot(int seat, int marble) {
+        return seat * MARBLES_PER_SEAT + marble;
+    }
+
+    /**
+     * Seat owning a slot
+     */
+    public static int seatOf(int slot) {
+        return slot / MARBLES_PER_SEAT;
+    }
+
+    /**
+     * Low bitboard word with only the square's bit set (0 for squares 64+)
+     */
+    public static long squareLo(int square) {
+        return square < 64 ? 1L << square : 0;
+    }
+
+    /**
+     * High bitboard word with only the square's bit set (0 for squares below 64)
+     */
+    public static long squareHi(int square) {
+        return square < 64 ? 0 : 1L << (square - 64);
+    }
+
+    /**
+     * Slot bitmask covering every marble of a seat
+     */
+    public static int seatMask(int seat) {
+        return ((1 << MARBLES_PER_SEAT) - 1) << (seat * MARBLES_PER_SEAT);
+    }
+
+    /**
+     * Put every marble back in home
+     */
+    public void reset() {
+        Arrays.fill(positions, (byte) OFF_BOARD);
+        homeMask = allHome;
+        Arrays.fill(occupants, 0);
+        Arrays.fill(seatLo, 0);
+        Arrays.fill(seatHi, 0);
+        allLo = 0;
+        allHi = 0;
+        hash = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            hash ^= Zobrist.marble(slot, OFF_BOARD);
+        }
+    }
+
+    public int position(int slot) {
+        return positions[slot];
+    }
+
+    public boolean inHome(int slot) {
+        return (homeMask & (1 << slot)) != 0;
+    }
+
+    public int getHomeMask() {
+        return homeMask;
+    }
+
+    /**
+     * Low word of the bitboard of squares holding a seat's marbles
+     */
+    public long occupancyLo(int seat) {
+        return seatLo[seat];
+    }
+
+    /**
+     * High word of the bitboard of squares holding a seat's marbles
+     */
+    public long occupancyHi(int seat) {
+        return seatHi[seat];
+    }
+
+    /**
+     * Low word of the bitboard of squares holding any marble
+     */
+    public long allLo() {
+        return allLo;
+    }
+
+    /**
+     * High word of the bitboard of squares holding any marble
+     */
+    public long allHi() {
+        return allHi;
+    }
+
+    /**
+     * Zobrist hash of where every marble is
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Slot bitmask of the marbles on a square (0 if the square is empty)
+     */
+    public int occupantsAt(int square) {
+        return occupants[square];
+    }
+
+    /**
+     * Put a marble on a board position, taking it out of home
+     */
+    public void place(int slot, int position) {
+        hash ^= Zobrist.marble(slot, positions[slot]) ^ Zobrist.marble(slot, position);
+        leave(slot);
+        positions[slot] = (byte) position;
+        homeMask &= ~(1 << slot);
+        if (position != OFF_BOARD) {
+            occupants[position] |= 1 << slot;
+            int seat = seatOf(slot);
+            seatLo[seat] |= squareLo(position);
+            seatHi[seat] |= squareHi(position);
+            allLo |= squareLo(position);
+            allHi |= squareHi(position);
+        }
+    }
+
+    /**
+     * Take a slot off its current square in the occupancy indexes
+     */
+    private void leave(int slot) {
+        int square = positions[slot];
+        if (square == OFF_BOARD) {
+            return;
+        }
+        int left = occupants[square] &= ~(1 << slot);
+        int seat = seatOf(slot);
+        if ((left & seatMask(seat)) == 0) {
+            seatLo[seat] &= ~squareLo(square);
+            seatHi[seat] &= ~squareHi(square);
+        }
+        if (left == 0) {
+            allLo &= ~squareLo(square);
+            allHi &= ~squareHi(square);
+        }
+    }
+
+    /**
+     * Send a marble back to home
+     */
+    public void sendHome(int slot) {
+        hash ^= Zobrist.marble(slot, positions[slot]) ^ Zobrist.marble(slot, OFF_BOARD);
+        leave(slot);
+        positions[slot] = (byte) OFF_BOARD;
+        homeMask |= 1 << slot;
+    }
+
+    /**
+     * Overwrite this state with another one of the same board
+     */
+    public void copyFrom(GameState other) {
+        System.arraycopy(other.positions, 0, positions, 0, slots);
+        homeMask = other.homeMask;
+        hash = other.hash;
+        System.arraycopy(other.seatLo, 0, seatLo, 0, seats);
+        System.arraycopy(other.seatHi, 0, seatHi, 0, seats);
+        allLo = other.allLo;
+        allHi = other.allHi;
+        System.arraycopy(other.occupants, 0, occupants, 0, occupants.length);
+    }
+
+    public GameState copy() {
+        GameState copy = new GameState(seats, occupants.length - 1);
+        copy.copyFrom(this);
+        return copy;
+    }
+}
\ No newline at end of file
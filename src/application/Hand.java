@@ -0,0 +1,240 @@
+package application;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The cards a player holds, in the order they were dealt, indexed as bits.
+ *
+ * Next to the ordered cards the hand keeps a 54-bit mask with one bit per
+ * card id held and a count and presence bit per {@link Card.Value}, all
+ * updated on add and remove. Questions strategies ask all the time ("any
+ * ACE or KING?", "a card that moves exactly 3?") are then a mask test, and
+ * with a single deck the card mask alone identifies the hand for hashing
+ * or memoisation.
+ *
+ * Value sets are passed as int masks with bit {@code value.ordinal()} set,
+ * built with {@link #bit(Card.Value)} and {@link #stepsMask(int)}.
+ */
+public final class Hand implements Iterable<Card> {
+    /** Value mask holding every value */
+    public static final int ALL_VALUES = (1 << Card.Value.values().length) - 1;
+
+    private static final Card.Value[] VALUES = Card.Value.values();
+
+    // Per number of steps (offset by 4 for the FOUR's -4): values moving exactly that far
+    private static final int STEPS_OFFSET = 4;
+    private static final int[] STEPS_MASK = new int[MoveTables.MAX_STEPS + STEPS_OFFSET + 1];
+    // Value ordinals from most to fewest steps
+    private static final int[] BY_STEPS;
+    static {
+        Integer[] order = new Integer[VALUES.length];
+        for (Card.Value value : VALUES) {
+            STEPS_MASK[GameEngine.stepsFor(value) + STEPS_OFFSET] |= bit(value);
+            order[value.ordinal()] = value.ordinal();
+        }
+        Arrays.sort(order, (a, b) -> GameEngine.stepsFor(VALUES[b]) - GameEngine.stepsFor(VALUES[a]));
+        BY_STEPS = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            BY_STEPS[i] = order[i];
+        }
+    }
+
+    private Card[] cards = new Card[8];
+    private int size;
+
+    // Bit per card id held, and how many copies (several decks can deal the same card twice)
+    private long mask;
+    private final byte[] copies = new byte[Card.COUNT];
+    // Cards held per Card.Value ordinal, and a bit per value held
+    private final int[] valueCounts = new int[VALUES.length];
+    private int valueMask;
+
+    /**
+     * Value mask with a single value
+     */
+    public static int bit(Card.Value value) {
+        return 1 << value.ordinal();
+    }
+
+    /**
+     * Value mask of the cards that move a marble exactly that many steps
+     * (negative for backward); 0 if no card does
+     */
+    public static int stepsMask(int steps) {
+        int index = steps + STEPS_OFFSET;
+        return index >= 0 && index < STEPS_MASK.length ? STEPS_MASK[index] : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Card at a position in dealing order
+     */
+    public Card get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Card " + index + " of " + size);
+        }
+        return cards[index];
+    }
+
+    public void add(Card card) {
+        add(size, card);
+    }
+
+    /**
+     * Insert a card at a position in dealing order
+     */
+    public void add(int index, Card card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        System.arraycopy(cards, index, cards, index + 1, size - index);
+        cards[index] = card;
+        size++;
+
+        copies[card.getId()]++;
+        mask |= 1L << card.getId();
+        int value = card.getValue().ordinal();
+        valueCounts[value]++;
+        valueMask |= 1 << value;
+    }
+
+    /**
+     * Remove the card at a position in dealing order
+     */
+    public Card remove(int index) {
+        Card card = get(index);
+        System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+        cards[--size] = null;
+
+        if (--copies[card.getId()] == 0) {
+            mask &= ~(1L << card.getId());
+        }
+        int value = card.getValue().ordinal();
+        if (--valueCounts[value] == 0) {
+            valueMask &= ~(1 << value);
+        }
+        return card;
+    }
+
+    /**
+     * Remove one copy of a card
+     *
+     * @return false if the card was not in the hand
+     */
+    public boolean remove(Card card) {
+        if (!contains(card)) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (cards[i] == card) {
+                remove(i);
+                break;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(cards, 0, size, null);
+        size = 0;
+        mask = 0;
+        Arrays.fill(copies, (byte) 0);
+        Arrays.fill(valueCounts, 0);
+        valueMask = 0;
+    }
+
+    public boolean contains(Card card) {
+        return (mask & (1L << card.getId())) != 0;
+    }
+
+    /**
+     * Bit per card id held
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Bit per Card.Value ordinal held
+     */
+    public int getValueMask() {
+        return valueMask;
+    }
+
+    public int count(Card.Value value) {
+        return valueCounts[value.ordinal()];
+    }
+
+    public boolean has(Card.Value value) {
+        return (valueMask & bit(value)) != 0;
+    }
+
+    /**
+     * Whether the hand holds a card of any value in the mask
+     */
+    public boolean hasAny(int values) {
+        return (valueMask & values) != 0;
+    }
+
+    /**
+     * First card in dealing order whose value is in the mask, or null
+     */
+    public Card first(int values) {
+        if ((valueMask & values) == 0) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            if ((values & bit(cards[i].getValue())) != 0) {
+                return cards[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * First card of the value that moves a marble furthest forward, or null
+     * for an empty hand
+     */
+    public Card mostSteps() {
+        for (int value : BY_STEPS) {
+            if ((valueMask & (1 << value)) != 0) {
+                return first(1 << value);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Card next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return cards[next++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(cards, size));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package application;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Prints a game's {@link EventJournal} to the console from a background
+ * thread, so the game itself never waits on System.out. Stops by itself
+ * once a team has won, or when asked to.
+ */
+public final class JournalPrinter implements Runnable {
+    // How long to sleep when there is nothing new to print
+    private static final long POLL_MILLIS = 50;
+
+    private final EventJournal journal;
+    private final LongConsumer print = this::print;
+    private long cursor;
+    private volatile boolean running = true;
+
+    private JournalPrinter(EventJournal journal) {
+        this.journal = journal;
+        this.cursor = journal.getPublished();
+    }
+
+    /**
+     * Start printing every event appended from now on
+     */
+    public static JournalPrinter start(EventJournal journal) {
+        JournalPrinter printer = new JournalPrinter(journal);
+        Thread thread = new Thread(printer, "journal-printer");
+        thread.setDaemon(true);
+        thread.start();
+        return printer;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            long next = journal.drain(cursor, print);
+            if (next == cursor) {
+                try {
+                    Thread.sleep(POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            cursor = next;
+        }
+    }
+
+    private void print(long event) {
+        System.out.println(EventJournal.describe(event));
+        if (EventJournal.type(event) == EventJournal.WON) {
+            running = false;
+        }
+    }
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
@@ -14,6 +15,7 @@ import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class Main extends Application {
 
@@ -31,6 +33,8 @@ public class Main extends Application {
     // Game states for tracking progression
     private int currentGameNumber = 0;
     private boolean waitingForNextGame = false;
+    // Skip animations (toggled with T during a game)
+    private boolean turbo = false;
     
     @Override
     public void start(Stage primaryStage) {
@@ -69,6 +73,14 @@ public class Main extends Application {
         boardView.fitHeightProperty().bind(gameRoot.heightProperty());
 
         gameScene = new Scene(gameRoot, 800, 600);
+        gameScene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.T) {
+                turbo = !turbo;
+                if (gameBoard != null) {
+                    gameBoard.setTurbo(turbo);
+                }
+            }
+        });
         
         // ---- 3) Upgrade scene for transitions between games ----
         setupUpgradeScene();
@@ -129,6 +141,10 @@ public class Main extends Application {
         player4 = new NormalPlayer("player4"); 
         
         // Create and initialize the game board
+        CompletableFuture<Void> previousGame = CompletableFuture.completedFuture(null);
+        if (gameBoard != null) {
+            previousGame = gameBoard.abandon();
+        }
         gameBoard = new Board(gameRoot, player1, player2, player3, player4) {
             protected void checkForWin() {
                 super.checkForWin();
@@ -136,7 +152,8 @@ public class Main extends Application {
                 // NOTE: This does nothing special in Phase 0 mode
             }
         };
-        gameBoard.initializeGame();
+        gameBoard.setTurbo(turbo);
+        gameBoard.initializeGame(previousGame);
         
         // Show the game scene
         showGameScene();
@@ -178,6 +195,10 @@ public class Main extends Application {
         gameRoot.getChildren().add(skillLabel);
         
         // Create and initialize the game board with win detection override
+        CompletableFuture<Void> previousGame = CompletableFuture.completedFuture(null);
+        if (gameBoard != null) {
+            previousGame = gameBoard.abandon();
+        }
         gameBoard = new Board(gameRoot, player1, player2, player3, player4) {
             protected void checkForWin() {
                 // First call the original method
@@ -219,7 +240,8 @@ public class Main extends Application {
                 }
             }
         };
-        gameBoard.initializeGame();
+        gameBoard.setTurbo(turbo);
+        gameBoard.initializeGame(previousGame);
         
         // Show the game scene
         showGameScene();
@@ -279,6 +301,11 @@ public class Main extends Application {
         }
         
         // Create and initialize a new game board with the same win detection override
+        // The learning games keep players 1, 3 and 4 from the board being replaced
+        CompletableFuture<Void> previousGame = CompletableFuture.completedFuture(null);
+        if (gameBoard != null) {
+            previousGame = gameBoard.abandon();
+        }
         gameBoard = new Board(gameRoot, player1, player2, player3, player4) {
             @Override
             protected void checkForWin() {
@@ -324,7 +351,8 @@ public class Main extends Application {
                 }
             }
         };
-        gameBoard.initializeGame();
+        gameBoard.setTurbo(turbo);
+        gameBoard.initializeGame(previousGame);
         
         // Show the game scene
         showGameScene();
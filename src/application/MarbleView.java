@@ -0,0 +1,48 @@
+package application;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+/**
+ * On-screen circle of a {@link Marble}. Only the UI creates views: the
+ * board makes one per slot the first time it shows the marble and moves
+ * the same circle in every later game.
+ */
+public final class MarbleView {
+    private static final double RADIUS = 10;
+
+    private final Marble marble;
+    private final Circle circle;
+
+    /**
+     * Must be called on the FX application thread
+     */
+    public MarbleView(Marble marble) {
+        this.marble = marble;
+
+        // Set the size and appearance
+        circle = new Circle(RADIUS, marble.getSeat().getColor());
+        circle.setStroke(Color.BLACK);
+        circle.setStrokeWidth(1);
+
+        double[] home = marble.getSeat().getHomeSlot(marble.getIndex());
+        circle.setCenterX(home[0]);
+        circle.setCenterY(home[1]);
+    }
+
+    public Marble getMarble() {
+        return marble;
+    }
+
+    public Circle getCircle() {
+        return circle;
+    }
+
+    /**
+     * Put the circle on a point right away
+     */
+    public void place(double x, double y) {
+        circle.setCenterX(x);
+        circle.setCenterY(y);
+    }
+}
\ No newline at end of file
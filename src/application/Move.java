@@ -0,0 +1,123 @@
+package application;
+
+/**
+ * One legal move, as handed across API boundaries (strategies, the UI, logs).
+ * Hot loops should stay on {@link MoveBuffer} rows instead.
+ *
+ * Split SEVENs and JACK swaps move a second marble, described by
+ * {@link #getSlot2()}, {@link #getFrom2()} and {@link #getTo2()}.
+ */
+public final class Move {
+    private final int seat;
+    private final int card;
+    private final int value;
+    private final int slot;
+    private final int from;
+    private final int to;
+    private final int slot2;
+    private final int from2;
+    private final int to2;
+    private final int captures;
+    private final int kind;
+
+    public Move(int seat, int card, int value, int slot, int from, int to, int captures, int kind) {
+        this(seat, card, value, slot, from, to, -1, -1, -1, captures, kind);
+    }
+
+    public Move(int seat, int card, int value, int slot, int from, int to,
+                int slot2, int from2, int to2, int captures, int kind) {
+        this.seat = seat;
+        this.card = card;
+        this.value = value;
+        this.slot = slot;
+        this.from = from;
+        this.to = to;
+        this.slot2 = slot2;
+        this.from2 = from2;
+        this.to2 = to2;
+        this.captures = captures;
+        this.kind = kind;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Index of the played card in the seat's hand when the move was generated
+     * (-1 for a move chosen after the card was played)
+     */
+    public int getCard() {
+        return card;
+    }
+
+    /**
+     * Value the card was played as; a joker reports the value it stood for
+     */
+    public Card.Value getValue() {
+        return Card.Value.values()[value];
+    }
+
+    /**
+     * GameState slot of the moving marble
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    public int getMarble() {
+        return slot % GameState.MARBLES_PER_SEAT;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Whether a second marble moves (a split SEVEN or a JACK swap)
+     */
+    public boolean hasSecondMarble() {
+        return slot2 >= 0;
+    }
+
+    /**
+     * GameState slot of the second marble, or -1
+     */
+    public int getSlot2() {
+        return slot2;
+    }
+
+    public int getFrom2() {
+        return from2;
+    }
+
+    public int getTo2() {
+        return to2;
+    }
+
+    /**
+     * Slot bitmask of the marbles this move sends home
+     */
+    public int getCaptures() {
+        return captures;
+    }
+
+    /**
+     * One of MoveBuffer.FORWARD, BACKWARD, RELEASE, SPLIT or SWAP
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return "seat " + seat + " " + getValue() + ": marble " + getMarble() + " " + from + " -> " + to
+            + (slot2 >= 0 ? ", seat " + GameState.seatOf(slot2) + " marble " + slot2 % GameState.MARBLES_PER_SEAT
+                + " " + from2 + " -> " + to2 : "")
+            + (captures != 0 ? " capturing " + Integer.bitCount(captures) : "");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package application;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, column-oriented list of candidate moves filled by
+ * {@link GameEngine#generateMoves(int, MoveBuffer)}.
+ *
+ * Every move is a row of primitives spread over parallel arrays, so
+ * enumerating moves allocates nothing once the buffer has grown to the
+ * largest hand it has seen. Rows are only valid until the next call that
+ * fills the buffer, and card indices only until the hand changes.
+ *
+ * A split SEVEN and a JACK swap move two marbles; their second marble goes
+ * in the {@code slot2}, {@code from2} and {@code to2} columns, which hold
+ * -1 for single-marble moves. Where one card can reach the same marble
+ * placement in several ways (a joker releasing as ACE or as KING, the two
+ * orders of a split) the generator adds rows with {@link #addUnique}, which
+ * skips outcomes already added since the last {@link #nextCard()}; they are
+ * kept in a small open-addressing table.
+ */
+public final class MoveBuffer {
+    /** A marble on the track moves forward */
+    public static final int FORWARD = 0;
+    /** A marble moves backward with a FOUR */
+    public static final int BACKWARD = 1;
+    /** An ACE or KING brings a marble from home onto its base */
+    public static final int RELEASE = 2;
+    /** A SEVEN split over two marbles, one forward move each */
+    public static final int SPLIT = 3;
+    /** A JACK swaps a marble with an opponent's */
+    public static final int SWAP = 4;
+
+    private int seat = -1;
+    private int size;
+
+    private int[] card;      // index into the seat's hand
+    private int[] value;     // Card.Value ordinal (the value a joker is played as)
+    private int[] slot;      // GameState slot of the marble
+    private int[] from;      // GameState.OFF_BOARD for a release
+    private int[] to;
+    private int[] slot2;     // second marble of a split or swap, or -1
+    private int[] from2;
+    private int[] to2;
+    private int[] captures;  // slot bitmask of marbles sent home
+    private byte[] kind;
+
+    // Outcome keys of the current card's rows; a key is live while its stamp matches
+    private int[] outcomes = new int[256];
+    private int[] outcomeStamps = new int[256];
+    private int stamp;
+    private int outcomeCount;
+
+    public MoveBuffer() {
+        this(64);
+    }
+
+    public MoveBuffer(int capacity) {
+        card = new int[capacity];
+        value = new int[capacity];
+        slot = new int[capacity];
+        from = new int[capacity];
+        to = new int[capacity];
+        slot2 = new int[capacity];
+        from2 = new int[capacity];
+        to2 = new int[capacity];
+        captures = new int[capacity];
+        kind = new byte[capacity];
+    }
+
+    /**
+     * Empty the buffer for a new seat, keeping its storage
+     */
+    public void reset(int seat) {
+        this.seat = seat;
+        size = 0;
+        nextCard();
+    }
+
+    /**
+     * Start the rows of another card; outcomes are only compared within a card
+     */
+    public void nextCard() {
+        if (++stamp == 0) {
+            // Stamps wrapped around: forget every old outcome
+            Arrays.fill(outcomeStamps, 0);
+            stamp = 1;
+        }
+        outcomeCount = 0;
+    }
+
+    /**
+     * Append a single-marble move and return its row
+     */
+    public int add(int card, int value, int slot, int from, int to, int captures, int kind) {
+        return add(card, value, slot, from, to, -1, -1, -1, captures, kind);
+    }
+
+    /**
+     * Append a move unless the card already has a row moving the same
+     * marbles to the same squares
+     *
+     * @return the row, or -1 if the move was a duplicate
+     */
+    public int addUnique(int card, int value, int slot, int from, int to,
+                         int slot2, int from2, int to2, int captures, int kind) {
+        if (!addOutcome(outcomeKey(slot, to, slot2, to2))) {
+            return -1;
+        }
+        return add(card, value, slot, from, to, slot2, from2, to2, captures, kind);
+    }
+
+    /**
+     * Append a move of up to two marbles and return its row
+     */
+    public int add(int card, int value, int slot, int from, int to,
+                   int slot2, int from2, int to2, int captures, int kind) {
+        if (size == this.card.length) {
+            grow();
+        }
+        int i = size++;
+        this.card[i] = card;
+        this.value[i] = value;
+        this.slot[i] = slot;
+        this.from[i] = from;
+        this.to[i] = to;
+        this.slot2[i] = slot2;
+        this.from2[i] = from2;
+        this.to2[i] = to2;
+        this.captures[i] = captures;
+        this.kind[i] = (byte) kind;
+        return i;
+    }
+
+    /**
+     * Where the moved marbles end up, independent of the order they moved in
+     */
+    private static int outcomeKey(int slot, int to, int slot2, int to2) {
+        if (slot2 < 0) {
+            return slot | to << 8 | 0xFFFF << 16;
+        }
+        if (slot2 < slot) {
+            return slot2 | to2 << 8 | slot << 16 | to << 24;
+        }
+        return slot | to << 8 | slot2 << 16 | to2 << 24;
+    }
+
+    /**
+     * Remember an outcome for the current card
+     *
+     * @return false if it was already there
+     */
+    private boolean addOutcome(int key) {
+        if (outcomeCount * 2 >= outcomes.length) {
+            growOutcomes();
+        }
+        int mask = outcomes.length - 1;
+        int i = (key * 0x9E3779B9) >>> 16 & mask;
+        while (outcomeStamps[i] == stamp) {
+            if (outcomes[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        outcomes[i] = key;
+        outcomeStamps[i] = stamp;
+        outcomeCount++;
+        return true;
+    }
+
+    /**
+     * Double the outcome table, re-adding the current card's rows
+     */
+    private void growOutcomes() {
+        outcomes = new int[outcomes.length * 2];
+        outcomeStamps = new int[outcomes.length];
+        outcomeCount = 0;
+        for (int i = size - 1; i >= 0 && card[i] == card[size - 1]; i--) {
+            addOutcome(outcomeKey(slot[i], to[i], slot2[i], to2[i]));
+        }
+    }
+
+    private void grow() {
+        int capacity = card.length * 2;
+        card = Arrays.copyOf(card, capacity);
+        value = Arrays.copyOf(value, capacity);
+        slot = Arrays.copyOf(slot, capacity);
+        from = Arrays.copyOf(from, capacity);
+        to = Arrays.copyOf(to, capacity);
+        slot2 = Arrays.copyOf(slot2, capacity);
+        from2 = Arrays.copyOf(from2, capacity);
+        to2 = Arrays.copyOf(to2, capacity);
+        captures = Arrays.copyOf(captures, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+    }
+
+    /**
+     * Seat the moves were generated for
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int card(int i) {
+        return card[i];
+    }
+
+    public int value(int i) {
+        return value[i];
+    }
+
+    public int slot(int i) {
+        return slot[i];
+    }
+
+    public int from(int i) {
+        return from[i];
+    }
+
+    public int to(int i) {
+        return to[i];
+    }
+
+    /**
+     * Slot of the second marble of a split or swap, or -1
+     */
+    public int slot2(int i) {
+        return slot2[i];
+    }
+
+    public int from2(int i) {
+        return from2[i];
+    }
+
+    public int to2(int i) {
+        return to2[i];
+    }
+
+    public int captures(int i) {
+        return captures[i];
+    }
+
+    public int kind(int i) {
+        return kind[i];
+    }
+
+    /**
+     * Copy a row into an immutable Move, for handing out of hot loops
+     */
+    public Move get(int i) {
+        return new Move(seat, card[i], value[i], slot[i], from[i], to[i],
+                        slot2[i], from2[i], to2[i], captures[i], kind[i]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,360 @@
+package application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Movement, distance and capture tables for every seat, compiled once from
+ * a {@link BoardTopology}.
+ *
+ * For each (seat, position, steps) a table stores the squares a marble walks
+ * over, the square it lands on and a two-word bitmask of the squares where
+ * one of the seat's own marbles would stop it. Resolving a move is then a
+ * table lookup plus an occupancy mask check; the step-by-step walk is only
+ * replayed when an own marble actually blocks the path. Forward moves and
+ * the backward moves of a FOUR are compiled into separate tables but are
+ * resolved by the same rules.
+ *
+ * Occupancy masks use bit {@code s} for square {@code s}: squares 0-63 live
+ * in the low word, 64 and above in the high word.
+ */
+public final class MoveTables {
+    public static final int MAX_STEPS = 13;
+
+    private static final int LANE_LENGTH = BoardTopology.LANE_LENGTH;
+    private static final int APPROACH_WINDOW = BoardTopology.APPROACH_WINDOW;
+
+    private static final MoveTables STANDARD = new MoveTables(BoardTopology.standard());
+
+    // Tables compiled for other topologies, so forked engines share them
+    private static final Map<BoardTopology, MoveTables> COMPILED = new ConcurrentHashMap<>();
+
+    /**
+     * One direction of movement, indexed by tableIndex(seat, position, steps)
+     */
+    private static final class Table {
+        final byte[] landing;
+        final byte[] redirect;
+        final long[] blockLo;
+        final long[] blockHi;
+        // Squares visited; negative entries are forward safe-zone skips, which
+        // never block
+        final byte[][] path;
+
+        Table(int size) {
+            landing = new byte[size];
+            redirect = new byte[size];
+            blockLo = new long[size];
+            blockHi = new long[size];
+            path = new byte[size][];
+        }
+    }
+
+    private final BoardTopology topology;
+    private final int trackLength;
+    private final int seats;
+
+    private final Table forward;
+    private final Table backward;
+
+    // Per seat: forward steps from a square to the first square of its safe zone
+    private final byte[][] distanceToSafeZone;
+
+    // Per seat: does the square belong to another seat's safe zone
+    private final boolean[][] otherSafeZone;
+    // Seat whose safe zone contains the square, or -1
+    private final byte[] safeZoneSeat;
+    // Slot bitmask of the marbles that cannot be captured on the square
+    private final int[] shelteredSlots;
+    // Per seat: bitboard of its safe-zone squares
+    private final long[] laneLo;
+    private final long[] laneHi;
+
+    /**
+     * The tables for the standard four-seat board, built once
+     */
+    public static MoveTables standard() {
+        return STANDARD;
+    }
+
+    /**
+     * The tables for a topology, compiled on first use
+     */
+    public static MoveTables forTopology(BoardTopology topology) {
+        if (topology == BoardTopology.standard()) {
+            return STANDARD;
+        }
+        return COMPILED.computeIfAbsent(topology, MoveTables::new);
+    }
+
+    private MoveTables(BoardTopology topology) {
+        this.topology = topology;
+        this.trackLength = topology.getTrackLength();
+        this.seats = topology.getSeatCount();
+
+        int size = seats * (trackLength + 1) * (MAX_STEPS + 1);
+        forward = new Table(size);
+        backward = new Table(size);
+
+        safeZoneSeat = new byte[trackLength + 1];
+        shelteredSlots = new int[trackLength + 1];
+        for (int pos = 0; pos <= trackLength; pos++) {
+            safeZoneSeat[pos] = (byte) safeZoneOwner(pos);
+            // Marbles are safe from capture inside their own safe zone
+            shelteredSlots[pos] = safeZoneSeat[pos] < 0 ? 0 : GameState.seatMask(safeZoneSeat[pos]);
+        }
+
+        laneLo = new long[seats];
+        laneHi = new long[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            for (int pos = topology.getSafeZoneStart(seat); pos <= topology.getSafeZoneEnd(seat); pos++) {
+                laneLo[seat] |= GameState.squareLo(pos);
+                laneHi[seat] |= GameState.squareHi(pos);
+            }
+        }
+
+        otherSafeZone = new boolean[seats][trackLength + 1];
+        for (int seat = 0; seat < seats; seat++) {
+            for (int pos = 1; pos <= trackLength; pos++) {
+                otherSafeZone[seat][pos] = safeZoneOwner(pos) >= 0 && safeZoneOwner(pos) != seat;
+            }
+        }
+
+        for (int seat = 0; seat < seats; seat++) {
+            for (int pos = 0; pos <= trackLength; pos++) {
+                for (int steps = 1; steps <= MAX_STEPS; steps++) {
+                    compileForward(seat, pos, steps);
+                    compileBackward(seat, pos, steps);
+                }
+            }
+        }
+
+        distanceToSafeZone = new byte[seats][trackLength + 1];
+        for (int seat = 0; seat < seats; seat++) {
+            for (int pos = 1; pos <= trackLength; pos++) {
+                distanceToSafeZone[seat][pos] = (byte) compileDistance(seat, pos);
+            }
+        }
+    }
+
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    private int tableIndex(int seat, int position, int steps) {
+        return (seat * (trackLength + 1) + position) * (MAX_STEPS + 1) + steps;
+    }
+
+    /**
+     * Seat whose safe zone contains the square, or -1
+     */
+    private int safeZoneOwner(int position) {
+        for (int seat = 0; seat < seats; seat++) {
+            if (topology.isSafeZone(seat, position)) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    private int wrap(int position) {
+        return topology.wrap(position);
+    }
+
+    /**
+     * Count single steps from a square to the start of the seat's safe zone,
+     * skipping other safe zones the way a move does
+     */
+    private int compileDistance(int seat, int current) {
+        if (topology.isSafeZone(seat, current)) {
+            return 0;
+        }
+        int safeStart = topology.getSafeZoneStart(seat);
+        int position = current;
+        int distance = 0;
+        while (position != safeStart) {
+            int next = wrap(position + 1);
+            int owner = safeZoneOwner(next);
+            position = owner >= 0 && owner != seat ? wrap(topology.getSafeZoneEnd(owner) + 1) : next;
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * Replay the forward movement rules once, without any blocking marbles
+     */
+    private void compileForward(int seat, int current, int steps) {
+        int index = tableIndex(seat, current, steps);
+        int safeStart = topology.getSafeZoneStart(seat);
+        int safeEnd = topology.getSafeZoneEnd(seat);
+
+        // A marble just short of its safe zone that would overshoot the entry
+        // is redirected into the safe zone instead, if that square is free
+        int distance = safeStart - current;
+        if (distance >= 1 && distance <= APPROACH_WINDOW
+                && steps > distance && steps % distance != 0) {
+            forward.redirect[index] = (byte) (safeStart + Math.min(steps - distance, LANE_LENGTH - 1));
+        }
+
+        byte[] path;
+        if (current >= safeStart && current <= safeEnd) {
+            // Already in the safe zone: move within it, never beyond its end
+            path = new byte[] {(byte) Math.min(current + steps, safeEnd)};
+        } else {
+            path = new byte[steps];
+            int position = current;
+            for (int i = 0; i < steps; i++) {
+                int next = wrap(position + 1);
+                int owner = safeZoneOwner(next);
+                if (owner >= 0 && owner != seat) {
+                    // Jump past another player's safe zone in a single step
+                    position = wrap(topology.getSafeZoneEnd(owner) + 1);
+                    path[i] = (byte) -position;
+                } else {
+                    position = next;
+                    path[i] = (byte) position;
+                }
+            }
+        }
+        store(forward, index, seat, current, path);
+    }
+
+    /**
+     * Replay the backward (FOUR) movement rules once, without any blocking marbles
+     */
+    private void compileBackward(int seat, int current, int steps) {
+        int index = tableIndex(seat, current, steps);
+        byte[] path;
+        if (topology.isSafeZone(seat, current)) {
+            // No backward movement out of the safe zone
+            path = new byte[] {(byte) current};
+        } else {
+            path = new byte[steps];
+            int position = current;
+            for (int i = 0; i < steps; i++) {
+                int previous = wrap(position - 1);
+                int owner = safeZoneOwner(previous);
+                if (owner >= 0 && owner != seat) {
+                    // Jump back past another player's safe zone in a single step;
+                    // unlike going forward, an own marble there still blocks
+                    position = wrap(topology.getSafeZoneStart(owner) - 1);
+                    path[i] = (byte) position;
+                } else {
+                    position = previous;
+                    path[i] = (byte) position;
+                }
+            }
+        }
+        store(backward, index, seat, current, path);
+    }
+
+    private void store(Table table, int index, int seat, int current, byte[] path) {
+        table.path[index] = path;
+
+        int landing = Math.abs(path[path.length - 1]);
+        long lo = 0;
+        long hi = 0;
+        for (byte square : path) {
+            if (square > 0) {
+                lo |= GameState.squareLo(square);
+                hi |= GameState.squareHi(square);
+            }
+        }
+        lo |= GameState.squareLo(landing);
+        hi |= GameState.squareHi(landing);
+        table.blockLo[index] = lo;
+        table.blockHi[index] = hi;
+
+        table.landing[index] = (byte) (otherSafeZone[seat][landing] ? current : landing);
+    }
+
+    /**
+     * Seat whose safe zone contains the square, or -1 for a track square
+     */
+    public int safeZoneSeat(int position) {
+        return safeZoneSeat[position];
+    }
+
+    /**
+     * Slot bitmask of the marbles that cannot be captured on a square
+     */
+    public int shelteredSlots(int position) {
+        return shelteredSlots[position];
+    }
+
+    /**
+     * Low word of the bitboard of a seat's safe-zone squares
+     */
+    public long laneLo(int seat) {
+        return laneLo[seat];
+    }
+
+    /**
+     * High word of the bitboard of a seat's safe-zone squares
+     */
+    public long laneHi(int seat) {
+        return laneHi[seat];
+    }
+
+    /**
+     * Number of single steps from a square to the first square of the
+     * seat's safe zone (0 once inside it)
+     */
+    public int distanceToSafeZone(int seat, int position) {
+        return distanceToSafeZone[seat][position];
+    }
+
+    private static boolean occupied(int square, long occupiedLo, long occupiedHi) {
+        return ((occupiedLo & GameState.squareLo(square)) | (occupiedHi & GameState.squareHi(square))) != 0;
+    }
+
+    /**
+     * Resolve a forward move.
+     *
+     * @param occupiedLo squares 0-63 holding the seat's other marbles
+     * @param occupiedHi squares 64+ holding the seat's other marbles
+     * @return the landing square, or {@code current} if the move is not possible
+     */
+    public int forward(int seat, int current, int steps, long occupiedLo, long occupiedHi) {
+        return resolve(forward, seat, current, steps, occupiedLo, occupiedHi);
+    }
+
+    /**
+     * Resolve a backward move of {@code steps} squares (a positive count).
+     *
+     * @see #forward(int, int, int, long, long)
+     */
+    public int backward(int seat, int current, int steps, long occupiedLo, long occupiedHi) {
+        return resolve(backward, seat, current, steps, occupiedLo, occupiedHi);
+    }
+
+    private int resolve(Table table, int seat, int current, int steps, long occupiedLo, long occupiedHi) {
+        if (steps <= 0) {
+            return current;
+        }
+        int index = tableIndex(seat, current, steps);
+
+        int redirect = table.redirect[index];
+        if (redirect != 0 && !occupied(redirect, occupiedLo, occupiedHi)) {
+            return redirect;
+        }
+
+        if ((table.blockLo[index] & occupiedLo) == 0 && (table.blockHi[index] & occupiedHi) == 0) {
+            return table.landing[index];
+        }
+
+        // An own marble is in the way: stop on the square before it
+        int position = current;
+        for (byte square : table.path[index]) {
+            if (square > 0 && occupied(square, occupiedLo, occupiedHi)) {
+                break;
+            }
+            position = Math.abs(square);
+        }
+        if (occupied(position, occupiedLo, occupiedHi) || otherSafeZone[seat][position]) {
+            return current;
+        }
+        return position;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,5 @@
 package application;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -14,21 +13,13 @@ public class NormalPlayer extends Player {
     }
 
     @Override
-    public void takeTurn(Board board) {
-        System.out.println(name + ".takeTurn(); hand=" + cards);
-
-        // 1) skip if empty hand
-        if (cards.isEmpty()) {
-            board.nextTurn();
-            return;
-        }
-
-        int basePos = getBasePosition();
+    public Card chooseCard(GameEngine engine) {
+        int basePos = engine.getPlayerBase(this);
 
         // compute on-board and base occupancy
         List<Marble> onBoard = new ArrayList<>();
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
+            if (!engine.isMarbleInHome(m)) {
                 onBoard.add(m);
             }
         }
@@ -36,22 +27,10 @@ public class NormalPlayer extends Player {
         boolean hasOnBoard = !onBoard.isEmpty();
         
         // Check if we have a marble on base
-        boolean baseOccupied = false;
-        for (Marble m : onBoard) {
-            if (board.getMarblePosition(m) == basePos) {
-                baseOccupied = true;
-                break;
-            }
-        }
+        boolean baseOccupied = engine.isOwnMarbleAt(this, basePos);
 
         // find any ACE or KING in hand
-        Card aceOrKing = null;
-        for (Card c : cards) {
-            if (c.getValue() == Card.Value.ACE || c.getValue() == Card.Value.KING) {
-                aceOrKing = c;
-                break;
-            }
-        }
+        Card aceOrKing = hand.first(Hand.bit(Card.Value.ACE) | Hand.bit(Card.Value.KING));
 
         Card toPlay;
 
@@ -60,24 +39,21 @@ public class NormalPlayer extends Player {
             toPlay = aceOrKing;
         }
         // rule 2: if base slot empty and an ACE/KING in hand → play one of those
-        else if (!baseOccupied && aceOrKing != null && hasMarbleInHome(board)) {
+        else if (!baseOccupied && aceOrKing != null && hasMarbleInHome(engine)) {
             toPlay = aceOrKing;
         }
         // rule 3: otherwise play the highest-move-value card
         else {
-            toPlay = cards.stream()
-                .max(Comparator.comparingInt(this::cardMoveValue))
-                .get();  // safe because hand not empty
+            toPlay = hand.mostSteps();  // never null, the hand is not empty
         }
 
-        board.playCard(this, toPlay);
+        return toPlay;
     }
 
     @Override
-    public void makeMove(Board board, Card card) {
-        boolean moved = false;
+    public Move chooseMove(GameEngine engine, Card card) {
         int steps = getStepsForCard(card);
-        int basePos = getBasePosition();
+        int basePos = engine.getPlayerBase(this);
         
         // Special handling for backward movement (FOUR card)
         if (steps < 0) {
@@ -85,9 +61,9 @@ public class NormalPlayer extends Player {
             List<Marble> movableMarblesNotInSafeZone = new ArrayList<>();
             
             for (Marble m : marbles) {
-                if (!board.isMarbleInHome(m)) {
-                    int pos = board.getMarblePosition(m);
-                    if (!board.isInSafeZone(this, pos)) {
+                if (!engine.isMarbleInHome(m)) {
+                    int pos = engine.getMarblePosition(m);
+                    if (!engine.isInSafeZone(this, pos)) {
                         movableMarblesNotInSafeZone.add(m);
                     }
                 }
@@ -95,113 +71,94 @@ public class NormalPlayer extends Player {
             
             // If we have marbles that can be moved backward, choose the furthest one
             if (!movableMarblesNotInSafeZone.isEmpty()) {
-                Marble marbleToMove = findFurthestMarbleInList(board, movableMarblesNotInSafeZone);
-                int currPos = board.getMarblePosition(marbleToMove);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                Marble marbleToMove = findFurthestMarbleInList(engine, movableMarblesNotInSafeZone);
+                int currPos = engine.getMarblePosition(marbleToMove);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 if (targetPos != currPos) {
-                    System.out.println(name + " moving marble backward from position " + currPos + " to " + targetPos);
-                    board.moveMarbleToPosition(marbleToMove, targetPos, 1.0, 0.0);
-                    return;
+                    return engine.createMove(marbleToMove, card, targetPos);
                 }
             }
         }
         
         // PRIORITY 1: If we have a marble on the base position, always move it first
-        Marble baseMarble = findMarbleOnBase(board);
+        Marble baseMarble = findMarbleOnBase(engine);
         if (baseMarble != null) {
-            int currPos = board.getMarblePosition(baseMarble);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            int currPos = engine.getMarblePosition(baseMarble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             
             // Only move if it changes position
             if (targetPos != currPos) {
-                System.out.println(name + " moving marble from base position");
-                board.moveMarbleToPosition(baseMarble, targetPos, 1.0, 0.0);
-                moved = true;
-                return; // Successfully moved a base marble
+                return engine.createMove(baseMarble, card, targetPos); // Successfully moved a base marble
             }
         }
         
         // PRIORITY 2: Try to move any marble that's furthest along on the track
-        Marble furthestMarble = findFurthestMarble(board);
+        Marble furthestMarble = findFurthestMarble(engine);
         if (furthestMarble != null && (baseMarble == null || furthestMarble != baseMarble)) {
-            int currPos = board.getMarblePosition(furthestMarble);
+            int currPos = engine.getMarblePosition(furthestMarble);
             
             // Skip if trying to move backward from safe zone
-            if (steps < 0 && board.isInSafeZone(this, currPos)) {
-                System.out.println(name + " cannot move marble backward from safe zone");
-            } else {
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            if (steps >= 0 || !engine.isInSafeZone(this, currPos)) {
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 // Only move if it changes position
                 if (targetPos != currPos) {
-                    System.out.println(name + " moving furthest marble from position " + currPos);
-                    board.moveMarbleToPosition(furthestMarble, targetPos, 1.0, 0.0);
-                    moved = true;
-                    return; // Successfully moved the furthest marble
+                    return engine.createMove(furthestMarble, card, targetPos); // Successfully moved the furthest marble
                 }
             }
         }
         
         // PRIORITY 3: Try to move ANY marble on the board that can move
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m) && 
+            if (!engine.isMarbleInHome(m) && 
                 (baseMarble == null || m != baseMarble) && 
                 (furthestMarble == null || m != furthestMarble)) {
                 
-                int currPos = board.getMarblePosition(m);
+                int currPos = engine.getMarblePosition(m);
                 
                 // Skip if trying to move backward from safe zone
-                if (steps < 0 && board.isInSafeZone(this, currPos)) {
+                if (steps < 0 && engine.isInSafeZone(this, currPos)) {
                     continue;
                 }
                 
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 // Only move if it changes position
                 if (targetPos != currPos) {
-                    System.out.println(name + " moving marble from position " + currPos);
-                    board.moveMarbleToPosition(m, targetPos, 1.0, 0.0);
-                    moved = true;
-                    return; // Successfully moved a marble
+                    return engine.createMove(m, card, targetPos); // Successfully moved a marble
                 }
             }
         }
         
         // PRIORITY 4: If we have ACE/KING and marbles in home, bring one out
-        if (!moved && hasMarbleInHome(board) && 
+        if (hasMarbleInHome(engine) && 
            (card.getValue() == Card.Value.ACE || card.getValue() == Card.Value.KING)) {
             
             // Check if base position is free
-            boolean baseOccupied = (findMarbleOnBase(board) != null);
+            boolean baseOccupied = (findMarbleOnBase(engine) != null);
             
             if (!baseOccupied) {
-                Marble homeMarble = getFirstMarbleInHome(board);
+                Marble homeMarble = getFirstMarbleInHome(engine);
                 if (homeMarble != null) {
-                    System.out.println(name + " bringing marble out from home to base");
-                    board.moveMarbleToPosition(homeMarble, basePos, 1.0, 0.0);
-                    moved = true;
-                    return; // Successfully brought out a marble
+                    return engine.createMove(homeMarble, card, basePos); // Successfully brought out a marble
                 }
             }
         }
         
-        // If we couldn't make any move, advance the turn
-        if (!moved) {
-            System.out.println(name + " has no valid moves, discarding card");
-            board.nextTurn();
-        }
+        // If we couldn't make any move, the card is discarded
+        return null;
     }
 
     /**
      * Find the furthest marble from a list of marbles
      */
-    private Marble findFurthestMarbleInList(Board board, List<Marble> marbleList) {
+    private Marble findFurthestMarbleInList(GameEngine engine, List<Marble> marbleList) {
         Marble furthest = null;
         int maxProgress = -1;
         
         for (Marble m : marbleList) {
-            int currPos = board.getMarblePosition(m);
+            int currPos = engine.getMarblePosition(m);
             
             // For simplicity, just use position as progress measure
             int progress = currPos;
@@ -218,9 +175,9 @@ public class NormalPlayer extends Player {
     /**
      * Check if player has marbles in home
      */
-    private boolean hasMarbleInHome(Board board) {
+    private boolean hasMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return true;
             }
         }
@@ -230,28 +187,15 @@ public class NormalPlayer extends Player {
     /**
      * Find the first marble in home
      */
-    private Marble getFirstMarbleInHome(Board board) {
+    private Marble getFirstMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return m;
             }
         }
         return null;
     }
     
-    /**
-     * Get player's base position
-     */
-    private int getBasePosition() {
-        switch (name.toLowerCase()) {
-            case "player1": return 51;
-            case "player2": return 1;
-            case "player3": return 18;
-            case "player4": return 35;
-            default: return 1;
-        }
-    }
-    
     /**
      * Get steps for card value
      */
@@ -274,32 +218,12 @@ public class NormalPlayer extends Player {
         }
     }
     
-    /** Returns the "move value" used for choosing highest card */
-    private int cardMoveValue(Card card) {
-        switch (card.getValue()) {
-            case ACE:   return 1;
-            case TWO:   return 2;
-            case THREE: return 3;
-            case FOUR:  return -4;
-            case FIVE:  return 5;
-            case SIX:   return 6;
-            case SEVEN: return 7;
-            case EIGHT: return 8;
-            case NINE:  return 9;
-            case TEN:   return 10;
-            case JACK:  return 11;
-            case QUEEN: return 12;
-            case KING:  return 13;
-            default:    return 0;
-        }
-    }
-
-private Marble findMarbleOnBase(Board board) {
-    int basePos = getBasePosition();
+private Marble findMarbleOnBase(GameEngine engine) {
+    int basePos = engine.getPlayerBase(this);
     
     for (Marble m : marbles) {
-        if (!board.isMarbleInHome(m)) {
-            int pos = board.getMarblePosition(m);
+        if (!engine.isMarbleInHome(m)) {
+            int pos = engine.getMarblePosition(m);
             if (pos == basePos) {
                 return m;
             }
@@ -311,13 +235,13 @@ private Marble findMarbleOnBase(Board board) {
 /**
  * Find the marble that has moved furthest along the track
  */
-private Marble findFurthestMarble(Board board) {
+private Marble findFurthestMarble(GameEngine engine) {
     Marble furthest = null;
     int maxProgress = -1;
     
     for (Marble m : marbles) {
-        if (!board.isMarbleInHome(m)) {
-            int currPos = board.getMarblePosition(m);
+        if (!engine.isMarbleInHome(m)) {
+            int currPos = engine.getMarblePosition(m);
             
             // For simplicity, just use position as progress measure
             int progress = currPos;
@@ -2,78 +2,46 @@ package application;
 
 import java.util.ArrayList;
 import java.util.List;
-import javafx.scene.paint.Color;
+import java.util.SplittableRandom;
 
 /**
- * Abstract base class for all player types
+ * Abstract base class for all player types. Each player type is the
+ * {@link Strategy} for its own seat: it picks a card and then a move,
+ * and the engine's turn loop plays them.
  */
-public abstract class Player {
+public abstract class Player implements Strategy {
     // Player identity
     protected String name;
+    protected final Seat seat;
     protected List<Marble> marbles;
-    protected List<Card> cards;
-    
-    // Home position coordinates for marbles
-    protected double[][] homePositions;
+    protected final Hand hand;
+    // This seat's random stream, replaced by the engine at the start of every game
+    protected SplittableRandom random = new SplittableRandom();
     
     /**
      * Create a new player
      */
     public Player(String name) {
         this.name = name;
+        this.seat = Seat.forName(name);
         this.marbles = new ArrayList<>();
-        this.cards = new ArrayList<>();
-        
-        // Set home positions based on player name
-        setupHomePositions();
+        this.hand = new Hand();
     }
     
+    @Override
+    public void seed(SplittableRandom random) {
+        this.random = random;
+    }
+
     public String getName() {
         return name;
     }
     
     /**
-     * Set up home positions for this player's marbles
-     * FIXED: Swapped home positions for player3 and player4 to match Marble.java
+     * Where this player sits: turn index, colour, home slots and hand layout
      */
-    private void setupHomePositions() {
-        switch (name.toLowerCase()) {
-            case "player1":
-                homePositions = new double[][] {
-                    {542, 155}, // Position 1 - RIGHT of board
-                    {584, 155}, // Position 2
-                    {584, 184}, // Position 3
-                    {542, 184}  // Position 4
-                };
-                break;
-                
-            case "player2":
-                homePositions = new double[][] {
-                    {499, 400}, // Position 1 - BOTTOM of board
-                    {540, 400}, // Position 2
-                    {540, 428}, // Position 3
-                    {499, 428}  // Position 4
-                };
-                break;
-                
-            case "player3":
-                homePositions = new double[][] {
-                    {199, 347}, // Position 1 - LEFT of board (swapped with player4)
-                    {245, 346}, // Position 2
-                    {200, 376}, // Position 3
-                    {245, 376}  // Position 4
-                };
-                break;
-                
-            case "player4":
-                homePositions = new double[][] {
-                    {223, 152}, // Position 1 - TOP of board (swapped with player3)
-                    {268, 152}, // Position 2
-                    {223, 181}, // Position 3
-                    {268, 181}  // Position 4
-                };
-                break;
-        }
+    public Seat getSeat() {
+        return seat;
     }
     
     /**
@@ -81,9 +49,9 @@ public abstract class Player {
      */
     public void createMarbles() {
         marbles.clear();
-        // Create 4 marbles with the appropriate color
+        // One marble per home slot
         for (int i = 0; i < 4; i++) {
-            Marble marble = new Marble(name, i + 1);
+            Marble marble = new Marble(seat, i + 1);
             marbles.add(marble);
         }
     }
@@ -92,8 +60,8 @@ public abstract class Player {
      * Get the home position for a specific marble
      */
     public double[] getHomePosition(int index) {
-        if (index >= 0 && index < homePositions.length) {
-            return homePositions[index];
+        if (index >= 0 && index < seat.getHomeSlotCount()) {
+            return seat.getHomeSlot(index);
         }
         return new double[] {0, 0}; // Default
     }
@@ -102,7 +70,7 @@ public abstract class Player {
      * Get the index of a marble in this player's marbles list
      */
     public int getMarbleIndex(Marble marble) {
-        return marbles.indexOf(marble);
+        return marble.getSeat() == seat ? marble.getIndex() : -1;
     }
     
     /**
@@ -115,95 +83,28 @@ public abstract class Player {
     /**
      * Get player's cards
      */
-    public List<Card> getCards() {
-        return cards;
+    public Hand getHand() {
+        return hand;
     }
     
     /**
      * Add a card to player's hand
      */
     public void addCard(Card card) {
-        cards.add(card);
-        positionCardInHand(card, cards.size() - 1);
-    }
-    
-    /**
-     * Position a card in the player's visual hand
-     */
-    private void positionCardInHand(Card card, int index) {
-        // Position cards in a arc/fan at the bottom of the screen for player 1,
-        // at the right for player 2, top for player 3, left for player 4
-        double cardX = 0;
-        double cardY = 0;
-        double rotation = 0;
-        
-        switch (name.toLowerCase()) {
-            case "player2":
-                // Cards at bottom
-                cardX = 300 + (index * 50);
-                cardY = 490;
-                rotation = -10 + (index * 5);
-                break;
-                
-            case "player1":
-                // Cards at right
-                cardX = 680;
-                cardY = 200 + (index * 50);
-                rotation = 80 + (index * 5);
-                break;
-                
-            case "player4":
-                // Cards at top - ADJUSTED: shifted 50 pixels to the right
-                cardX = 600 - (index * 50);  // Changed from 500 to 550
-                cardY = 30;
-                rotation = 170 + (index * 5);
-                break;
-                
-            case "player3":
-                // Cards at left
-                cardX = 80;
-                cardY = 400 - (index * 50);
-                rotation = 260 + (index * 5);
-                break;
-        }
-        
-        // Set the card's position and rotation
-        card.getCardImageView().setX(cardX);
-        card.getCardImageView().setY(cardY);
-        card.getCardImageView().setRotate(rotation);
-
-        
-        // Show the card face-up to the player
-        card.setFaceUp(true);
+        hand.add(card);
     }
     
     /**
      * Remove a card from player's hand
      */
     public void removeCard(Card card) {
-        cards.remove(card);
-        // Re-position remaining cards
-        for (int i = 0; i < cards.size(); i++) {
-            positionCardInHand(cards.get(i), i);
-        }
+        hand.remove(card);
     }
     
     /**
      * Clear all cards from player's hand
      */
     public void clearCards() {
-        cards.clear();
+        hand.clear();
     }
-    
-    /**
-     * Abstract method to be implemented by each player type
-     * Selects and plays a card based on strategy
-     */
-    public abstract void takeTurn(Board board);
-    
-    /**
-     * Abstract method to be implemented by each player type
-     * Chooses how to use a card that was played
-     */
-    public abstract void makeMove(Board board, Card card);
 }
\ No newline at end of file
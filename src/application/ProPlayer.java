@@ -11,141 +11,149 @@ public class ProPlayer extends Player {
     
     private boolean shortcutActive = false;
     private Marble shortcutMarble = null;
+
+    // Landing square of a FOUR played from base, per seat, built for the
+    // board of the last game played (skipping safe zones, our own included).
+    // On the standard board: 51 → 50 → 45 → 44 → 43, 1 → 67 → 62 → 61 → 60,
+    // 18 → 17 → 12 → 11 → 10, 35 → 34 → 29 → 28 → 27
+    private BoardTopology shortcutTopology;
+    private int[] shortcutBackward;
     
     // Maximum distance to consider a marble "close" to safe zone
     private static final int CLOSE_TO_SAFEZONE_THRESHOLD = 10;
+
+
+    // Values that move a marble forward (not the FOUR, not a joker)
+    private static final int FORWARD_VALUES = forwardValues();
     
     public ProPlayer(String name) {
         super(name);
     }
+
+    private static int forwardValues() {
+        int mask = 0;
+        for (int steps = 1; steps <= MoveTables.MAX_STEPS; steps++) {
+            mask |= Hand.stepsMask(steps);
+        }
+        return mask;
+    }
     
     @Override
-    public void takeTurn(Board board) {
-        System.out.println("\n" + name + ".takeTurn() with hand: " + cards);
-        
-        // Check if we have no cards left
-        if (cards.isEmpty()) {
-            board.nextTurn();
-            return;
-        }
-        
+    public Card chooseCard(GameEngine engine) {
         // Get the card to play based on our priority strategy
-        Card cardToPlay = selectBestCard(board);
+        Card cardToPlay = selectBestCard(engine);
         
-        System.out.println(name + " is playing card: " + cardToPlay);
-        board.playCard(this, cardToPlay);
+        return cardToPlay;
+    }
+
+    /**
+     * Drop the FOUR shortcut, which no longer holds once another strategy
+     * has moved our marbles
+     */
+    @Override
+    public void forgetPlan() {
+        shortcutActive = false;
+        shortcutMarble = null;
     }
     
     /**
      * Select the best card to play based on the current board state and our strategy
      */
-    private Card selectBestCard(Board board) {
+    private Card selectBestCard(GameEngine engine) {
         // PRIORITY 1: If we have a marble on base and a FOUR card, always play the FOUR
-        Marble baseMarble = findMarbleOnBase(board);
+        Marble baseMarble = findMarbleOnBase(engine);
         if (baseMarble != null) {
-            for (Card card : cards) {
-                if (card.getValue() == Card.Value.FOUR) {
-                    System.out.println(name + " playing FOUR to move marble backward from base - HIGHEST PRIORITY");
-                    shortcutActive = true; 
-                    shortcutMarble = baseMarble;
-                    return card;
-                }
+            Card four = hand.first(Hand.bit(Card.Value.FOUR));
+            if (four != null) {
+                shortcutActive = true; 
+                shortcutMarble = baseMarble;
+                return four;
             }
         }
         
         // PRIORITY 2: Check for marbles close to safe zone (within 10 steps)
-        Marble closeToSafeZoneMarble = findMarbleCloseToSafeZone(board, CLOSE_TO_SAFEZONE_THRESHOLD);
+        Marble closeToSafeZoneMarble = findMarbleCloseToSafeZone(engine, CLOSE_TO_SAFEZONE_THRESHOLD);
         if (closeToSafeZoneMarble != null) {
-            int pos = board.getMarblePosition(closeToSafeZoneMarble);
-            int stepsNeeded = distanceToSafeZone(board, pos);
+            int pos = engine.getMarblePosition(closeToSafeZoneMarble);
+            int stepsNeeded = distanceToSafeZone(engine, pos);
             
             // Find the card that gets us closest to or into the safe zone
-            Card bestCard = findBestCardForSafeZoneEntry(board, closeToSafeZoneMarble, stepsNeeded);
+            Card bestCard = findBestCardForSafeZoneEntry(engine, closeToSafeZoneMarble, stepsNeeded);
             if (bestCard != null) {
-                System.out.println(name + " playing " + bestCard + " to move marble close to safe zone");
                 return bestCard;
             }
         }
         
         // PRIORITY 3: If we have ACE/KING and no marble on base and at least one marble in home, play ACE/KING
-        if (baseMarble == null && hasMarbleInHome(board)) {
-            for (Card card : cards) {
-                if (card.getValue() == Card.Value.ACE || card.getValue() == Card.Value.KING) {
-                    System.out.println(name + " playing ACE/KING to bring marble to base");
-                    return card;
-                }
+        if (baseMarble == null && hasMarbleInHome(engine)) {
+            Card aceOrKing = hand.first(Hand.bit(Card.Value.ACE) | Hand.bit(Card.Value.KING));
+            if (aceOrKing != null) {
+                return aceOrKing;
             }
         }
         
         // PRIORITY 4: If we have a marble at position after backward movement
         // and we have a card that can move it into the safe zone, play it
         if (shortcutActive && shortcutMarble != null) {
-            int pos = board.getMarblePosition(shortcutMarble);
-            int backwardPos = getShortcutBackwardPosition();
+            int pos = engine.getMarblePosition(shortcutMarble);
+            int backwardPos = getShortcutBackwardPosition(engine);
             
             if (pos == backwardPos) {
-                int stepsNeeded = distanceToSafeZone(board, pos);
+                int stepsNeeded = distanceToSafeZone(engine, pos);
                 
-                // Find a card that moves us closer to or into the safe zone
-                for (Card card : cards) {
-                    int steps = getStepsForCard(card);
-                    
-                    // Skip backward movement cards 
-                    if (steps <= 0) continue;
-                    
-                    // Try to find a card that gets us closer
-                    if (steps > 0) {
-                        System.out.println(name + " playing card to move toward safe zone from shortcut position");
-                        return card;
-                    }
+                // Find a card that moves us closer to or into the safe zone,
+                // skipping backward movement cards
+                Card closer = hand.first(FORWARD_VALUES);
+                if (closer != null) {
+                    return closer;
                 }
             }
         }
         
         // PRIORITY 5: Look for a card to enter the safe zone if we have a marble at the entry point
-        Marble entryMarble = findMarbleAtSafeZoneEntry(board);
+        Marble entryMarble = findMarbleAtSafeZoneEntry(engine);
         if (entryMarble != null) {
-            for (Card card : cards) {
-                if (getStepsForCard(card) == 1) {
-                    System.out.println(name + " playing card to enter safe zone from entry point");
-                    return card;
-                }
+            Card single = hand.first(Hand.stepsMask(1));
+            if (single != null) {
+                return single;
             }
         }
         
         // PRIORITY 6: Look for opportunities to capture
-        Card captureCard = findCaptureCard(board);
+        Card captureCard = findCaptureCard(engine);
         if (captureCard != null) {
-            System.out.println(name + " playing card to capture opponent's marble");
             return captureCard;
         }
         
         // PRIORITY 7: Default to the first card if no strategy applies
-        System.out.println(name + " playing default card");
-        return cards.get(0);
+        return hand.get(0);
     }
     
     /**
      * Find the best card to move a marble into or closer to the safe zone
      */
-    private Card findBestCardForSafeZoneEntry(Board board, Marble marble, int stepsNeeded) {
+    private Card findBestCardForSafeZoneEntry(GameEngine engine, Marble marble, int stepsNeeded) {
         Card bestCard = null;
         int bestScore = Integer.MIN_VALUE;
         
-        for (Card card : cards) {
+        int tried = 0;
+        for (Card card : hand) {
+            // A value already scored scores the same again
+            if ((tried & Hand.bit(card.getValue())) != 0) continue;
+            tried |= Hand.bit(card.getValue());
             int steps = getStepsForCard(card);
             
             // Skip backward moving cards
             if (steps <= 0) continue;
             
-            int currPos = board.getMarblePosition(marble);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            int currPos = engine.getMarblePosition(marble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             
             // Skip if target equals current (no movement possible)
             if (targetPos == currPos) continue;
             
             // Calculate a score based on how good this move is
-            int score = evaluateSafeZoneMove(board, currPos, targetPos, steps, stepsNeeded);
+            int score = evaluateSafeZoneMove(engine, currPos, targetPos, steps, stepsNeeded);
             
             if (score > bestScore) {
                 bestScore = score;
@@ -159,22 +167,22 @@ public class ProPlayer extends Player {
     /**
      * Evaluate how good a move is for getting to the safe zone
      */
-    private int evaluateSafeZoneMove(Board board, int currentPos, int targetPos, int steps, int stepsNeeded) {
+    private int evaluateSafeZoneMove(GameEngine engine, int currentPos, int targetPos, int steps, int stepsNeeded) {
         int score = 0;
         
         // Check if this move gets us into the safe zone
-        if (board.isInSafeZone(this, targetPos)) {
+        if (engine.isInSafeZone(this, targetPos)) {
             score += 1000; // Huge bonus for entering safe zone
         }
         
         // Check if this gets us exactly to the safe zone entry
-        if (targetPos == getSafeZoneStart()) {
+        if (targetPos == engine.getSafeZoneStart(this)) {
             score += 500; // Big bonus for landing exactly at entry point
         }
         
         // Calculate how much closer this gets us to the safe zone
-        int currentDist = distanceToSafeZone(board, currentPos);
-        int targetDist = distanceToSafeZone(board, targetPos);
+        int currentDist = distanceToSafeZone(engine, currentPos);
+        int targetDist = distanceToSafeZone(engine, targetPos);
         int improvement = currentDist - targetDist;
         
         // Bonus for getting closer to safe zone
@@ -193,148 +201,129 @@ public class ProPlayer extends Player {
     }
     
     @Override
-    public void makeMove(Board board, Card card) {
-        System.out.println("\n" + name + ".makeMove() with card: " + card);
+    public Move chooseMove(GameEngine engine, Card card) {
         int steps = getStepsForCard(card);
         
         // PRIORITY 1: Marble close to safe zone (within 10 steps)
         if (steps > 0) {
-            Marble closeToSafeZoneMarble = findMarbleCloseToSafeZone(board, CLOSE_TO_SAFEZONE_THRESHOLD);
+            Marble closeToSafeZoneMarble = findMarbleCloseToSafeZone(engine, CLOSE_TO_SAFEZONE_THRESHOLD);
             if (closeToSafeZoneMarble != null) {
-                int currPos = board.getMarblePosition(closeToSafeZoneMarble);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                int currPos = engine.getMarblePosition(closeToSafeZoneMarble);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 // Only move if it changes position
                 if (targetPos != currPos) {
-                    System.out.println(name + " moving marble close to safe zone from " + currPos + " to " + targetPos);
-                    board.moveMarbleToPosition(closeToSafeZoneMarble, targetPos, 1.0, 0.0);
-                    return;
+                    return engine.createMove(closeToSafeZoneMarble, card, targetPos);
                 }
             }
         }
         
         // PRIORITY 2: ACE/KING to bring marble out from home
         if ((card.getValue() == Card.Value.ACE || card.getValue() == Card.Value.KING) && 
-            hasMarbleInHome(board)) {
+            hasMarbleInHome(engine)) {
             
             // First check if base is already occupied
-            Marble baseMarble = findMarbleOnBase(board);
+            Marble baseMarble = findMarbleOnBase(engine);
             if (baseMarble == null) {
                 // Base is free, move a marble from home to base
-                Marble homeMarble = getFirstMarbleInHome(board);
-                System.out.println(name + " moving marble from home to base");
-                board.moveMarbleToPosition(homeMarble, getBasePosition(), 1.0, 0.0);
-                return;
-            } else {
-                System.out.println(name + " BASE IS ALREADY OCCUPIED - cannot place marble there");
+                Marble homeMarble = getFirstMarbleInHome(engine);
+                return engine.createMove(homeMarble, card, engine.getPlayerBase(this));
             }
         }
         
         // PRIORITY 3: FOUR to move backward from base
         if (card.getValue() == Card.Value.FOUR) {
-            Marble baseMarble = findMarbleOnBase(board);
+            Marble baseMarble = findMarbleOnBase(engine);
             if (baseMarble != null) {
                 // Override board's calculation with our predetermined position
-                int targetPos = getShortcutBackwardPosition();
-                System.out.println(name + " moving marble backward from base to " + targetPos);
-                board.moveMarbleToPosition(baseMarble, targetPos, 1.0, 0.0);
-                return;
+                int targetPos = getShortcutBackwardPosition(engine);
+                return engine.createMove(baseMarble, card, targetPos);
             }
         }
         
         // PRIORITY 4: When we have a marble at shortcut position
         if (shortcutActive && shortcutMarble != null) {
-            int pos = board.getMarblePosition(shortcutMarble);
-            int backwardPos = getShortcutBackwardPosition();
+            int pos = engine.getMarblePosition(shortcutMarble);
+            int backwardPos = getShortcutBackwardPosition(engine);
             
             if (pos == backwardPos) {
                 // If we're at the shortcut position, calculate target position normally
-                int targetPos = board.calculateTargetPosition(this, pos, steps);
+                int targetPos = engine.calculateTargetPosition(this, pos, steps);
                 
                 // Only move if it leads to a new position
                 if (targetPos != pos) {
-                    System.out.println(name + " moving marble from shortcut position " + pos + " to " + targetPos);
-                    board.moveMarbleToPosition(shortcutMarble, targetPos, 1.0, 0.0);
+                    Move move = engine.createMove(shortcutMarble, card, targetPos);
                     
                     // If we reach the safe zone, reset the shortcut tracking
-                    if (board.isInSafeZone(this, targetPos)) {
+                    if (engine.isInSafeZone(this, targetPos)) {
                         shortcutActive = false;
                         shortcutMarble = null;
                     }
-                    return;
+                    return move;
                 }
             }
         }
         
         // PRIORITY 5: Enter safe zone from entry point
-        Marble entryMarble = findMarbleAtSafeZoneEntry(board);
+        Marble entryMarble = findMarbleAtSafeZoneEntry(engine);
         if (entryMarble != null && steps > 0) {
-            int currPos = board.getMarblePosition(entryMarble);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            int currPos = engine.getMarblePosition(entryMarble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             
             // Move into or through safe zone
             if (targetPos != currPos) {
-                System.out.println(name + " entering or moving through safe zone from entry point");
-                board.moveMarbleToPosition(entryMarble, targetPos, 1.0, 0.0);
-                return;
+                return engine.createMove(entryMarble, card, targetPos);
             }
         }
         
         // PRIORITY 6: Capture an opponent's marble
-        Marble captureMarble = findMarbleForCapture(board, steps);
+        Marble captureMarble = findMarbleForCapture(engine, steps);
         if (captureMarble != null) {
-            int currPos = board.getMarblePosition(captureMarble);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
-            System.out.println(name + " capturing opponent's marble");
-            board.moveMarbleToPosition(captureMarble, targetPos, 1.0, 0.0);
-            return;
+            int currPos = engine.getMarblePosition(captureMarble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
+            return engine.createMove(captureMarble, card, targetPos);
         }
         
         // PRIORITY 7: Move a marble that's in safe zone
-        Marble safeMarble = findMarbleInSafeZone(board);
+        Marble safeMarble = findMarbleInSafeZone(engine);
         if (safeMarble != null && steps > 0) {
-            int currPos = board.getMarblePosition(safeMarble);
-            int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            int currPos = engine.getMarblePosition(safeMarble);
+            int targetPos = engine.calculateTargetPosition(this, currPos, steps);
             if (targetPos != currPos) {
-                System.out.println(name + " advancing marble in safe zone");
-                board.moveMarbleToPosition(safeMarble, targetPos, 1.0, 0.0);
-                return;
+                return engine.createMove(safeMarble, card, targetPos);
             }
         }
         
         // PRIORITY 8: Move any marble on the board
-        if (hasMarbleOnBoard(board)) {
+        if (hasMarbleOnBoard(engine)) {
             // Find the best marble to move
-            Marble bestMarble = findBestMarbleToMove(board, steps);
+            Marble bestMarble = findBestMarbleToMove(engine, steps);
             if (bestMarble != null) {
-                int currPos = board.getMarblePosition(bestMarble);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
-                System.out.println(name + " moving best marble from " + currPos + " to " + targetPos);
-                board.moveMarbleToPosition(bestMarble, targetPos, 1.0, 0.0);
-                return;
+                int currPos = engine.getMarblePosition(bestMarble);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
+                return engine.createMove(bestMarble, card, targetPos);
             }
         }
         
-        // If no valid move, pass turn
-        System.out.println(name + " has no valid moves, passing turn");
-        board.nextTurn();
+        // If no valid move, the card is discarded
+        return null;
     }
     
     /**
      * Find a marble that is within the specified number of steps from the safe zone
      */
-    private Marble findMarbleCloseToSafeZone(Board board, int threshold) {
+    private Marble findMarbleCloseToSafeZone(GameEngine engine, int threshold) {
         Marble closestMarble = null;
         int minDistance = Integer.MAX_VALUE;
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
                 
                 // Skip if already in safe zone
-                if (board.isInSafeZone(this, pos)) continue;
+                if (engine.isInSafeZone(this, pos)) continue;
                 
-                int distance = distanceToSafeZone(board, pos);
+                int distance = distanceToSafeZone(engine, pos);
                 
                 // Check if within threshold and closer than any found so far
                 if (distance <= threshold && distance < minDistance) {
@@ -344,89 +333,35 @@ public class ProPlayer extends Player {
             }
         }
         
-        if (closestMarble != null) {
-            int pos = board.getMarblePosition(closestMarble);
-            System.out.println(name + " found marble at position " + pos + 
-                              " that is " + minDistance + " steps from safe zone");
-        }
-        
         return closestMarble;
     }
     
     /**
      * Calculate the distance to reach the player's safe zone from a position
      */
-    private int distanceToSafeZone(Board board, int position) {
-        // Skip calculation if already in safe zone
-        if (board.isInSafeZone(this, position)) {
-            return 0;
-        }
-        
-        int safeZoneEntry = getSafeZoneStart();
-        
-        // For player 2 (red)
-        if (name.equalsIgnoreCase("player2")) {
-            // Safe zone starts at 63
-            if (position < 63) {
-                return 63 - position;
-            } else {
-                // Need to go around the board
-                return (67 - position) + 1 + 63;
-            }
-        }
-        // For player 1 (black)
-        else if (name.equalsIgnoreCase("player1")) {
-            // Safe zone starts at 46
-            if (position < 46) {
-                return 46 - position;
-            } else {
-                // Need to go around the board
-                return (67 - position) + 1 + 46;
-            }
-        }
-        // For player 3 (blue)
-        else if (name.equalsIgnoreCase("player3")) {
-            // Safe zone starts at 13
-            if (position < 13) {
-                return 13 - position;
-            } else {
-                // Need to go around the board
-                return (67 - position) + 1 + 13;
-            }
-        }
-        // For player 4 (green)
-        else if (name.equalsIgnoreCase("player4")) {
-            // Safe zone starts at 30
-            if (position < 30) {
-                return 30 - position;
-            } else {
-                // Need to go around the board
-                return (67 - position) + 1 + 30;
-            }
-        }
-        
-        return Integer.MAX_VALUE; // Default fallback
+    private int distanceToSafeZone(GameEngine engine, int position) {
+        return engine.getDistanceToSafeZone(this, position);
     }
     
     /**
      * Find the best marble to move based on proximity to safe zone
      */
-    private Marble findBestMarbleToMove(Board board, int steps) {
+    private Marble findBestMarbleToMove(GameEngine engine, int steps) {
         // Skip for backward movement
         if (steps <= 0) {
-            return findAnyMarbleNotInSafeZone(board);
+            return findAnyMarbleNotInSafeZone(engine);
         }
         
         Marble bestMarble = null;
         int bestScore = Integer.MIN_VALUE;
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int currPos = board.getMarblePosition(m);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            if (!engine.isMarbleInHome(m)) {
+                int currPos = engine.getMarblePosition(m);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
                 if (targetPos != currPos) { // Can move
-                    int score = evaluateMove(board, currPos, targetPos);
+                    int score = evaluateMove(engine, currPos, targetPos);
                     if (score > bestScore) {
                         bestScore = score;
                         bestMarble = m;
@@ -438,9 +373,9 @@ public class ProPlayer extends Player {
         // If no valid move found, try any marble
         if (bestMarble == null) {
             for (Marble m : marbles) {
-                if (!board.isMarbleInHome(m)) {
-                    int currPos = board.getMarblePosition(m);
-                    int targetPos = board.calculateTargetPosition(this, currPos, steps);
+                if (!engine.isMarbleInHome(m)) {
+                    int currPos = engine.getMarblePosition(m);
+                    int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                     
                     if (targetPos != currPos) { // Can move
                         return m; // Just return the first movable marble
@@ -455,11 +390,11 @@ public class ProPlayer extends Player {
     /**
      * Find any marble that is not in a safe zone
      */
-    private Marble findAnyMarbleNotInSafeZone(Board board) {
+    private Marble findAnyMarbleNotInSafeZone(GameEngine engine) {
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
-                if (!board.isInSafeZone(this, pos)) {
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
+                if (!engine.isInSafeZone(this, pos)) {
                     return m;
                 }
             }
@@ -470,27 +405,27 @@ public class ProPlayer extends Player {
     /**
      * Evaluate a move based on proximity to safe zone
      */
-    private int evaluateMove(Board board, int currentPos, int targetPos) {
+    private int evaluateMove(GameEngine engine, int currentPos, int targetPos) {
         int score = 0;
         
         // Prefer moves that get closer to safe zone
-        int currentDist = distanceToSafeZone(board, currentPos);
-        int targetDist = distanceToSafeZone(board, targetPos);
+        int currentDist = distanceToSafeZone(engine, currentPos);
+        int targetDist = distanceToSafeZone(engine, targetPos);
         
         score += (currentDist - targetDist) * 10;
         
         // Huge bonus if entering safe zone
-        if (!board.isInSafeZone(this, currentPos) && board.isInSafeZone(this, targetPos)) {
+        if (!engine.isInSafeZone(this, currentPos) && engine.isInSafeZone(this, targetPos)) {
             score += 500;
         }
         
         // Bonus if moving further along in safe zone
-        if (board.isInSafeZone(this, currentPos) && board.isInSafeZone(this, targetPos) && targetPos > currentPos) {
+        if (engine.isInSafeZone(this, currentPos) && engine.isInSafeZone(this, targetPos) && targetPos > currentPos) {
             score += 300;
         }
         
         // Bonus for landing exactly at safe zone entry point
-        if (targetPos == getSafeZoneStart()) {
+        if (targetPos == engine.getSafeZoneStart(this)) {
             score += 200;
         }
         
@@ -500,10 +435,13 @@ public class ProPlayer extends Player {
     /**
      * Find a card that can capture an opponent's marble
      */
-    private Card findCaptureCard(Board board) {
-        for (Card card : cards) {
+    private Card findCaptureCard(GameEngine engine) {
+        int tried = 0;
+        for (Card card : hand) {
+            if ((tried & Hand.bit(card.getValue())) != 0) continue;
+            tried |= Hand.bit(card.getValue());
             int steps = getStepsForCard(card);
-            if (findMarbleForCapture(board, steps) != null) {
+            if (findMarbleForCapture(engine, steps) != null) {
                 return card;
             }
         }
@@ -513,16 +451,16 @@ public class ProPlayer extends Player {
     /**
      * Find a marble that can capture an opponent's marble with the given steps
      */
-    private Marble findMarbleForCapture(Board board, int steps) {
+    private Marble findMarbleForCapture(GameEngine engine, int steps) {
         // Skip for backward movement
         if (steps <= 0) return null;
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int currPos = board.getMarblePosition(m);
-                int targetPos = board.calculateTargetPosition(this, currPos, steps);
+            if (!engine.isMarbleInHome(m)) {
+                int currPos = engine.getMarblePosition(m);
+                int targetPos = engine.calculateTargetPosition(this, currPos, steps);
                 
-                if (targetPos != currPos && isOpponentMarbleAtPosition(board, targetPos)) {
+                if (targetPos != currPos && engine.isOpponentMarbleAt(this, targetPos)) {
                     return m;
                 }
             }
@@ -530,46 +468,17 @@ public class ProPlayer extends Player {
         return null;
     }
     
-    /**
-     * Check if there's an opponent's marble at the specified position
-     */
-    private boolean isOpponentMarbleAtPosition(Board board, int position) {
-        // Check each player
-        for (int i = 0; i < 4; i++) {
-            Player player = board.getPlayerByIndex(i);
-            
-            // Skip our own marbles and partner's marbles
-            if (player == this) continue;
-            if ((this == board.getPlayerByIndex(0) && player == board.getPlayerByIndex(2)) ||
-                (this == board.getPlayerByIndex(2) && player == board.getPlayerByIndex(0)) ||
-                (this == board.getPlayerByIndex(1) && player == board.getPlayerByIndex(3)) ||
-                (this == board.getPlayerByIndex(3) && player == board.getPlayerByIndex(1))) {
-                continue;
-            }
-            
-            // Check if any of the player's marbles are at this position and not in safe zone
-            for (Marble m : player.getMarbles()) {
-                if (!board.isMarbleInHome(m) && 
-                    board.getMarblePosition(m) == position &&
-                    !board.isInSafeZone(player, position)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     // -------------------------- HELPER METHODS --------------------------
     
     /**
      * Find a marble that is at the safe zone entry point
      */
-    private Marble findMarbleAtSafeZoneEntry(Board board) {
-        int entryPoint = getSafeZoneEntryPoint();
+    private Marble findMarbleAtSafeZoneEntry(GameEngine engine) {
+        int entryPoint = engine.getSafeZoneEntry(this);
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
                 if (pos == entryPoint) {
                     return m;
                 }
@@ -582,11 +491,11 @@ public class ProPlayer extends Player {
     /**
      * Find a marble that is already in the safe zone
      */
-    private Marble findMarbleInSafeZone(Board board) {
+    private Marble findMarbleInSafeZone(GameEngine engine) {
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
-                if (board.isInSafeZone(this, pos)) {
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
+                if (engine.isInSafeZone(this, pos)) {
                     return m;
                 }
             }
@@ -595,39 +504,39 @@ public class ProPlayer extends Player {
         return null;
     }
     
-    private boolean hasMarbleOnBoard(Board board) {
+    private boolean hasMarbleOnBoard(GameEngine engine) {
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
+            if (!engine.isMarbleInHome(m)) {
                 return true;
             }
         }
         return false;
     }
     
-    private boolean hasMarbleInHome(Board board) {
+    private boolean hasMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return true;
             }
         }
         return false;
     }
     
-    private Marble getFirstMarbleInHome(Board board) {
+    private Marble getFirstMarbleInHome(GameEngine engine) {
         for (Marble m : marbles) {
-            if (board.isMarbleInHome(m)) {
+            if (engine.isMarbleInHome(m)) {
                 return m;
             }
         }
         return null;
     }
     
-    private Marble findMarbleOnBase(Board board) {
-        int basePos = getBasePosition();
+    private Marble findMarbleOnBase(GameEngine engine) {
+        int basePos = engine.getPlayerBase(this);
         
         for (Marble m : marbles) {
-            if (!board.isMarbleInHome(m)) {
-                int pos = board.getMarblePosition(m);
+            if (!engine.isMarbleInHome(m)) {
+                int pos = engine.getMarblePosition(m);
                 if (pos == basePos) {
                     return m;
                 }
@@ -636,36 +545,6 @@ public class ProPlayer extends Player {
         return null;
     }
     
-    private int getBasePosition() {
-        switch (name.toLowerCase()) {
-            case "player1": return 51;
-            case "player2": return 1;
-            case "player3": return 18;
-            case "player4": return 35;
-            default: return 1;
-        }
-    }
-    
-    private int getSafeZoneStart() {
-        switch (name.toLowerCase()) {
-            case "player1": return 46;
-            case "player2": return 63;
-            case "player3": return 13;
-            case "player4": return 30;
-            default: return 1;
-        }
-    }
-    
-    private int getSafeZoneEntryPoint() {
-        switch (name.toLowerCase()) {
-            case "player1": return 45; // Position before safe zone (46-49)
-            case "player2": return 62; // Position before safe zone (63-66)
-            case "player3": return 12; // Position before safe zone (13-16)
-            case "player4": return 29; // Position before safe zone (30-33)
-            default: return 1;
-        }
-    }
-    
     private int getStepsForCard(Card card) {
         switch (card.getValue()) {
             case ACE:   return 1;
@@ -688,17 +567,34 @@ public class ProPlayer extends Player {
     /**
      * Get the backward position after playing a FOUR from base
      */
-    private int getShortcutBackwardPosition() {
-        switch (name.toLowerCase()) {
-            case "player1": // Base at 51, moving backward 4 spaces
-                return 43; // 51 → 50 → 45 → 44 → 43 (Skip safe zone 46-49)
-            case "player2": // Base at 1, moving backward 4 spaces
-                return 60; // 1 → 67 → 62 → 61 → 60 (Skip safe zone 63-66)
-            case "player3": // Base at 18, moving backward 4 spaces
-                return 10; // 18 → 17 → 12 → 11 → 10 (Skip safe zone 13-16)
-            case "player4": // Base at 35, moving backward 4 spaces
-                return 27; // 35 → 34 → 29 → 28 → 27 (Skip safe zone 30-33)
-            default: return 60;
+    private int getShortcutBackwardPosition(GameEngine engine) {
+        BoardTopology topology = engine.getTopology();
+        if (topology != shortcutTopology) {
+            shortcutBackward = buildShortcutTable(topology);
+            shortcutTopology = topology;
+        }
+        return shortcutBackward[seat.getIndex()];
+    }
+
+    /**
+     * Walk a FOUR back from every seat's base, a safe zone counting as a
+     * single square
+     */
+    private static int[] buildShortcutTable(BoardTopology topology) {
+        int[] table = new int[topology.getSeatCount()];
+        for (int seat = 0; seat < table.length; seat++) {
+            int position = topology.getBase(seat);
+            for (int step = 0; step > GameEngine.stepsFor(Card.Value.FOUR); step--) {
+                position = topology.wrap(position - 1);
+                for (int owner = 0; owner < table.length; owner++) {
+                    if (topology.isSafeZone(owner, position)) {
+                        position = topology.getSafeZoneEntry(owner);
+                        break;
+                    }
+                }
+            }
+            table[seat] = position;
         }
+        return table;
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package application;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Who sits where at the table and how it is drawn: turn index, name,
+ * marble colour, home slots and where the hand is fanned out. A Player and
+ * each of its Marbles resolve their Seat once from the player name, so
+ * rendering reads fields instead of switching on the name.
+ *
+ * Base, safe zone and team are rules and belong to the
+ * {@link BoardTopology} the engine plays on, which is what lets player5 and
+ * player6 exist on generated tracks without a place on the board image.
+ */
+public final class Seat {
+    // Home slots and hand layout are shared with the board image; player3 and
+    // player4 sit on the left and top respectively
+    public static final Seat PLAYER1 = new Seat(0, "player1", Color.BLACK,
+        new double[][] {{542, 155}, {584, 155}, {584, 184}, {542, 184}},  // RIGHT of board
+        680, 200, 0, 50, 80);
+    public static final Seat PLAYER2 = new Seat(1, "player2", Color.RED,
+        new double[][] {{499, 400}, {540, 400}, {540, 428}, {499, 428}},  // BOTTOM of board
+        300, 490, 50, 0, -10);
+    public static final Seat PLAYER3 = new Seat(2, "player3", Color.BLUE,
+        new double[][] {{199, 347}, {245, 346}, {200, 376}, {245, 376}},  // LEFT of board
+        80, 400, 0, -50, 260);
+    public static final Seat PLAYER4 = new Seat(3, "player4", Color.GREEN,
+        new double[][] {{223, 152}, {268, 152}, {223, 181}, {268, 181}},  // TOP of board
+        600, 30, -50, 0, 170);
+
+    // Only used on generated tracks, which are never drawn
+    public static final Seat PLAYER5 = new Seat(4, "player5", Color.ORANGE,
+        new double[GameState.MARBLES_PER_SEAT][2], 0, 0, 0, 0, 0);
+    public static final Seat PLAYER6 = new Seat(5, "player6", Color.PURPLE,
+        new double[GameState.MARBLES_PER_SEAT][2], 0, 0, 0, 0, 0);
+
+    private static final Seat[] SEATS = {PLAYER1, PLAYER2, PLAYER3, PLAYER4, PLAYER5, PLAYER6};
+
+    private final int index;
+    private final String name;
+    private final Color color;
+    private final double[][] homeSlots;
+
+    // Card i of the hand goes to (handX + i * handStepX, handY + i * handStepY)
+    private final double handX;
+    private final double handY;
+    private final double handStepX;
+    private final double handStepY;
+    private final double handRotation;
+
+    private Seat(int index, String name, Color color, double[][] homeSlots,
+                 double handX, double handY, double handStepX, double handStepY, double handRotation) {
+        this.index = index;
+        this.name = name;
+        this.color = color;
+        this.homeSlots = homeSlots;
+        this.handX = handX;
+        this.handY = handY;
+        this.handStepX = handStepX;
+        this.handStepY = handStepY;
+        this.handRotation = handRotation;
+    }
+
+    /**
+     * Resolve the seat for a player name. Unknown names fall back to player2,
+     * matching the defaults the old name switches used.
+     */
+    public static Seat forName(String name) {
+        for (Seat seat : SEATS) {
+            if (seat.name.equalsIgnoreCase(name)) {
+                return seat;
+            }
+        }
+        return PLAYER2;
+    }
+
+    /**
+     * Seat by turn index (0–5)
+     */
+    public static Seat byIndex(int index) {
+        return SEATS[index];
+    }
+
+    public static int count() {
+        return SEATS.length;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    /**
+     * Screen coordinates of a marble's slot in home (0-based)
+     */
+    public double[] getHomeSlot(int marble) {
+        return homeSlots[marble];
+    }
+
+    public int getHomeSlotCount() {
+        return homeSlots.length;
+    }
+
+    public double getHandX(int card) {
+        return handX + card * handStepX;
+    }
+
+    public double getHandY(int card) {
+        return handY + card * handStepY;
+    }
+
+    public double getHandRotation(int card) {
+        return handRotation + card * 5;
+    }
+}
\ No newline at end of file
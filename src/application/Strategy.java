@@ -0,0 +1,58 @@
+package application;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decides what a seat plays. The {@link GameEngine} turn loop asks for a
+ * card first, plays it, and then asks where that card should move a marble,
+ * so a strategy never drives the game itself and never has to know whether
+ * the turn is being animated or simulated.
+ *
+ * Strategies read the board through the engine they are given; it is the
+ * live engine during a game, so they must leave it as they found it. Trying
+ * moves with apply and undo is fine, as {@link AnytimeStrategy} does.
+ */
+public interface Strategy {
+
+    /**
+     * Pick the card to play. Only called when the seat's hand is not empty.
+     */
+    Card chooseCard(GameEngine engine);
+
+    /**
+     * Decide what the card just played does, typically with
+     * {@link GameEngine#createMove(Marble, Card, int)}.
+     *
+     * @return the move, or null to discard the card without moving
+     */
+    Move chooseMove(GameEngine engine, Card card);
+
+    /**
+     * Hand the strategy its seat's random stream, split off the game seed,
+     * when a game starts. Strategies that make random choices must draw
+     * from this stream only, so games replay from their seed and parallel
+     * games never share a generator.
+     */
+    default void seed(SplittableRandom random) {
+    }
+
+    /**
+     * Forget what the last {@link #chooseCard} planned for later moves,
+     * because another strategy decided the turn instead
+     */
+    default void forgetPlan() {
+    }
+
+    /**
+     * Think ahead while the move before this seat's turn is being animated.
+     * The engine shows the position the seat is expected to decide in, with
+     * the previous move applied; nothing is returned, but what is learnt can
+     * make the real decision faster if the prediction holds.
+     *
+     * Must return soon after the deadline (a {@link System#nanoTime()}
+     * value) or once the thread is interrupted, and leave the engine as it
+     * found it.
+     */
+    default void ponder(GameEngine engine, long deadline) {
+    }
+}
\ No newline at end of file
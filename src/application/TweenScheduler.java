@@ -0,0 +1,301 @@
+package application;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.DoubleProperty;
+
+import java.util.Arrays;
+
+/**
+ * Moves marbles and cards for the {@link Board} from a single AnimationTimer.
+ *
+ * Every running motion is a tween: a pair of x/y properties sliding from
+ * where they are when the tween starts to a target, eased at both ends,
+ * with an optional callback once it arrives. Tweens are rows of parallel
+ * arrays that are reused as motions finish, so starting one allocates
+ * nothing once the arrays have grown to the busiest moment of the game,
+ * and all active tweens are advanced in the same pulse. Callbacks run after
+ * every tween of the pulse has been updated and may start new tweens. The
+ * timer only runs while something is moving.
+ *
+ * Each marble and each card has its own channel: it is moved by at most
+ * one tween at a time, found without searching. Moving a marble or card
+ * that is still under way re-targets its tween, which then continues from
+ * wherever the node is. The replaced tween's callback is kept if the new
+ * move has none; otherwise it runs at once, since its motion will never
+ * arrive.
+ *
+ * Only to be used from the FX application thread.
+ */
+public final class TweenScheduler {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // Pulse time that completes every tween, delays included
+    private static final long FINISH = Long.MAX_VALUE;
+
+    // Channels: one per marble slot, then one per card id
+    private static final int CARD_CHANNELS = BoardTopology.MAX_SEATS * GameState.MARBLES_PER_SEAT;
+    private static final int CHANNELS = CARD_CHANNELS + Card.COUNT;
+    private static final int NO_CHANNEL = -1;
+
+    // Row of each channel's tween, or -1 while the channel is idle
+    private final int[] channelRow = new int[CHANNELS];
+
+    private DoubleProperty[] xs;
+    private DoubleProperty[] ys;
+    // Start values are read when the tween starts (NaN until then)
+    private double[] fromX;
+    private double[] fromY;
+    private double[] toX;
+    private double[] toY;
+    private long[] delay;
+    private long[] duration;
+    // Pulse time the tween starts at, or -1 until its first pulse
+    private long[] start;
+    private Runnable[] onFinished;
+    private int[] channel;
+    private int size;
+
+    // Callbacks of the tweens that arrived in the current pulse
+    private Runnable[] arrived = new Runnable[8];
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            tick(now);
+        }
+    };
+    private boolean running;
+
+    public TweenScheduler() {
+        this(16);
+    }
+
+    public TweenScheduler(int capacity) {
+        xs = new DoubleProperty[capacity];
+        ys = new DoubleProperty[capacity];
+        fromX = new double[capacity];
+        fromY = new double[capacity];
+        toX = new double[capacity];
+        toY = new double[capacity];
+        delay = new long[capacity];
+        duration = new long[capacity];
+        start = new long[capacity];
+        onFinished = new Runnable[capacity];
+        channel = new int[capacity];
+        Arrays.fill(channelRow, -1);
+    }
+
+    /**
+     * Slide a marble's centre to a point
+     *
+     * @param onFinished run once the marble arrives, or null
+     */
+    public void move(MarbleView marble, double x, double y, double durationSeconds, double delaySeconds,
+                     Runnable onFinished) {
+        move(marble.getMarble().getSlot(), marble.getCircle().centerXProperty(), marble.getCircle().centerYProperty(),
+             x, y, durationSeconds, delaySeconds, onFinished);
+    }
+
+    /**
+     * Slide a card image to a point
+     *
+     * @param onFinished run once the card arrives, or null
+     */
+    public void move(CardView card, double x, double y, double durationSeconds, double delaySeconds,
+                     Runnable onFinished) {
+        move(CARD_CHANNELS + card.getCard().getId(), card.getImageView().xProperty(),
+             card.getImageView().yProperty(), x, y, durationSeconds, delaySeconds, onFinished);
+    }
+
+    /**
+     * Slide a pair of coordinates that belong to no marble or card to a point
+     *
+     * @param onFinished run once the coordinates arrive, or null
+     */
+    public void move(DoubleProperty x, DoubleProperty y, double targetX, double targetY,
+                     double durationSeconds, double delaySeconds, Runnable onFinished) {
+        move(NO_CHANNEL, x, y, targetX, targetY, durationSeconds, delaySeconds, onFinished);
+    }
+
+    private void move(int channel, DoubleProperty x, DoubleProperty y, double targetX, double targetY,
+                      double durationSeconds, double delaySeconds, Runnable onFinished) {
+        int row = channel == NO_CHANNEL ? -1 : channelRow[channel];
+        if (row >= 0) {
+            retarget(row, targetX, targetY, durationSeconds, delaySeconds, onFinished);
+            return;
+        }
+
+        if (size == xs.length) {
+            grow();
+        }
+        int i = size++;
+        xs[i] = x;
+        ys[i] = y;
+        fromX[i] = Double.NaN;
+        fromY[i] = Double.NaN;
+        toX[i] = targetX;
+        toY[i] = targetY;
+        delay[i] = (long) (delaySeconds * NANOS_PER_SECOND);
+        duration[i] = (long) (durationSeconds * NANOS_PER_SECOND);
+        start[i] = -1;
+        this.onFinished[i] = onFinished;
+        this.channel[i] = channel;
+        if (channel != NO_CHANNEL) {
+            channelRow[channel] = i;
+        }
+
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Send a channel's running tween somewhere else, from where it is now
+     */
+    private void retarget(int i, double targetX, double targetY, double durationSeconds, double delaySeconds,
+                          Runnable onFinished) {
+        Runnable previous = this.onFinished[i];
+        fromX[i] = Double.NaN;
+        fromY[i] = Double.NaN;
+        toX[i] = targetX;
+        toY[i] = targetY;
+        delay[i] = (long) (delaySeconds * NANOS_PER_SECOND);
+        duration[i] = (long) (durationSeconds * NANOS_PER_SECOND);
+        start[i] = -1;
+        if (onFinished != null) {
+            this.onFinished[i] = onFinished;
+            if (previous != null) {
+                previous.run();
+            }
+        }
+    }
+
+    /**
+     * Whether a marble is being moved or waiting to be
+     */
+    public boolean isMoving(Marble marble) {
+        return channelRow[marble.getSlot()] >= 0;
+    }
+
+    /**
+     * Number of tweens still running or waiting for their delay
+     */
+    public int getActiveCount() {
+        return size;
+    }
+
+    /**
+     * Put every tween at its target right away and run the callbacks
+     */
+    public void finishAll() {
+        tick(FINISH);
+    }
+
+    /**
+     * Stop every tween where it is, without running the callbacks
+     */
+    public void cancelAll() {
+        while (size > 0) {
+            remove(size - 1);
+        }
+        if (running) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    /**
+     * Advance every tween to a pulse time (in nanoseconds)
+     */
+    void tick(long now) {
+        int count = 0;
+        int i = 0;
+        while (i < size) {
+            if (now != FINISH) {
+                if (start[i] < 0) {
+                    start[i] = now + delay[i];
+                }
+                if (now < start[i]) {
+                    i++;
+                    continue;
+                }
+            }
+            if (Double.isNaN(fromX[i])) {
+                fromX[i] = xs[i].get();
+                fromY[i] = ys[i].get();
+            }
+
+            long elapsed = now == FINISH ? duration[i] : now - start[i];
+            if (elapsed >= duration[i]) {
+                xs[i].set(toX[i]);
+                ys[i].set(toY[i]);
+                if (onFinished[i] != null) {
+                    if (count == arrived.length) {
+                        arrived = Arrays.copyOf(arrived, count * 2);
+                    }
+                    arrived[count++] = onFinished[i];
+                }
+                remove(i);
+                continue;
+            }
+
+            double t = (double) elapsed / duration[i];
+            double eased = t * t * (3 - 2 * t);
+            xs[i].set(fromX[i] + (toX[i] - fromX[i]) * eased);
+            ys[i].set(fromY[i] + (toY[i] - fromY[i]) * eased);
+            i++;
+        }
+
+        if (size == 0 && running) {
+            running = false;
+            timer.stop();
+        }
+        for (int k = 0; k < count; k++) {
+            Runnable callback = arrived[k];
+            arrived[k] = null;
+            callback.run();
+        }
+    }
+
+    /**
+     * Drop a tween, moving the last one into its row
+     */
+    private void remove(int i) {
+        if (channel[i] != NO_CHANNEL) {
+            channelRow[channel[i]] = -1;
+        }
+        int last = --size;
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        fromX[i] = fromX[last];
+        fromY[i] = fromY[last];
+        toX[i] = toX[last];
+        toY[i] = toY[last];
+        delay[i] = delay[last];
+        duration[i] = duration[last];
+        start[i] = start[last];
+        onFinished[i] = onFinished[last];
+        channel[i] = channel[last];
+        if (i != last && channel[i] != NO_CHANNEL) {
+            channelRow[channel[i]] = i;
+        }
+        xs[last] = null;
+        ys[last] = null;
+        onFinished[last] = null;
+    }
+
+    private void grow() {
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        fromX = Arrays.copyOf(fromX, capacity);
+        fromY = Arrays.copyOf(fromY, capacity);
+        toX = Arrays.copyOf(toX, capacity);
+        toY = Arrays.copyOf(toY, capacity);
+        delay = Arrays.copyOf(delay, capacity);
+        duration = Arrays.copyOf(duration, capacity);
+        start = Arrays.copyOf(start, capacity);
+        onFinished = Arrays.copyOf(onFinished, capacity);
+        channel = Arrays.copyOf(channel, capacity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package application;
+
+import java.util.Arrays;
+
+/**
+ * Compact stack of everything needed to take back applied moves.
+ *
+ * Each entry is a fixed-size record of ints in one flat array: the moving
+ * slot with its old and new square, the slots it captured, the same for
+ * the second marble of a split or swap (slot -1 if there is none), the
+ * seat and hand index of the played card and the turn index and game
+ * result from before the move. The card itself is not stored; it is the
+ * top of the discard pile until the move is undone.
+ */
+public final class UndoLog {
+    static final int SLOT = 0;
+    static final int FROM = 1;
+    static final int TO = 2;
+    static final int CAPTURES = 3;
+    static final int CARD = 4;
+    static final int TURN = 5;
+    static final int WINNER = 6;
+    static final int SEAT = 7;
+    static final int SLOT2 = 8;
+    static final int FROM2 = 9;
+    static final int TO2 = 10;
+    static final int CAPTURES2 = 11;
+    private static final int RECORD = 12;
+
+    private int[] records;
+    private int size;
+
+    public UndoLog() {
+        this(256);
+    }
+
+    public UndoLog(int capacity) {
+        records = new int[capacity * RECORD];
+    }
+
+    /**
+     * Push a record and return its offset for filling in the fields
+     */
+    int push() {
+        int offset = size * RECORD;
+        if (offset == records.length) {
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+        size++;
+        return offset;
+    }
+
+    /**
+     * Pop the newest record and return its offset; valid until the next push
+     */
+    int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        return --size * RECORD;
+    }
+
+    void set(int offset, int field, int value) {
+        records[offset + field] = value;
+    }
+
+    int get(int offset, int field) {
+        return records[offset + field];
+    }
+
+    /**
+     * Number of moves that can be undone
+     */
+    public int depth() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package application;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fixed random keys for Zobrist hashing of game states.
+ *
+ * A state's hash is the XOR of one key per marble for the square it stands
+ * on (square 0 meaning home), one key for the seat to move and, per seat and
+ * card value, one key for each copy of that value held. Every change to the
+ * state flips exactly the keys involved, so hashes are kept up to date
+ * incrementally. Keys come from a fixed seed and are identical in every run.
+ */
+public final class Zobrist {
+    private static final int MAX_SLOTS = BoardTopology.MAX_SEATS * GameState.MARBLES_PER_SEAT;
+    private static final int MAX_SQUARES = 128;
+    private static final int VALUES = Card.Value.values().length;
+    // Copies of one value a hand can hold (two decks of four suits)
+    private static final int MAX_COPIES = 8;
+
+    private static final long[] MARBLE = new long[MAX_SLOTS * MAX_SQUARES];
+    private static final long[] TURN = new long[BoardTopology.MAX_SEATS];
+    private static final long[] HAND = new long[BoardTopology.MAX_SEATS * VALUES * MAX_COPIES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x4A41434B41524F4FL);
+        for (int i = 0; i < MARBLE.length; i++) MARBLE[i] = random.nextLong();
+        for (int i = 0; i < TURN.length; i++) TURN[i] = random.nextLong();
+        for (int i = 0; i < HAND.length; i++) HAND[i] = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Key for a marble slot standing on a square (GameState.OFF_BOARD for home)
+     */
+    public static long marble(int slot, int square) {
+        return MARBLE[slot * MAX_SQUARES + square];
+    }
+
+    /**
+     * Key for the seat to move
+     */
+    public static long turn(int seat) {
+        return TURN[seat];
+    }
+
+    /**
+     * Key for a seat holding at least {@code copy + 1} cards of a value
+     */
+    public static long hand(int seat, int value, int copy) {
+        return HAND[(seat * VALUES + value) * MAX_COPIES + copy];
+    }
+}
\ No newline at end of file